@@ -0,0 +1,53 @@
+package com.zooting.api.global.jwt.service;
+
+import com.zooting.api.global.security.userdetails.CustomUserDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터가 요청마다 호출하는 authenticateAccessToken 의 검증 캐시 사용 전후 비교.
+ * cold 는 캐시 크기 0 으로 매번 서명 검증과 Claims 파싱을 하고, cached 는 같은 토큰을 캐시에서 꺼낸다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtServiceBenchmark {
+    private JwtService coldJwtService;
+    private JwtService cachedJwtService;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        String secretKey = Base64.getEncoder().encodeToString("zooting-benchmark-secret-key-0123456789".getBytes());
+        // authenticateAccessToken 은 Redis 를 사용하지 않는다
+        coldJwtService = new JwtService(null, "zooting", secretKey, 3600, 86400, 0);
+        cachedJwtService = new JwtService(null, "zooting", secretKey, 3600, 86400, 10000);
+        accessToken = cachedJwtService.createAccessToken(CustomUserDetails.builder()
+                .email("benchmark@zooting.com")
+                .nickname("벤치마크")
+                .authorities(List.of(new SimpleGrantedAuthority("USER")))
+                .build());
+        cachedJwtService.authenticateAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public Authentication cold() {
+        return coldJwtService.authenticateAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public Authentication cached() {
+        return cachedJwtService.authenticateAccessToken(accessToken);
+    }
+}
@@ -37,6 +37,8 @@ public class QDM extends EntityPathBase<DM> {
 
     public final StringPath sender = createString("sender");
 
+    public final NumberPath<Long> seq = createNumber("seq", Long.class);
+
     //inherited
     public final DateTimePath<java.time.LocalDateTime> updatedAt = _super.updatedAt;
 
@@ -31,6 +31,8 @@ public class QDMRoom extends EntityPathBase<DMRoom> {
 
     public final NumberPath<Long> id = createNumber("id", Long.class);
 
+    public final StringPath participantKey = createString("participantKey");
+
     public final com.zooting.api.domain.member.entity.QMember receiver;
 
     public final NumberPath<Long> receiverLastReadId = createNumber("receiverLastReadId", Long.class);
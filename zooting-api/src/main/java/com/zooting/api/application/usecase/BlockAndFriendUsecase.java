@@ -4,6 +4,7 @@ import com.zooting.api.application.dto.request.MemberAndBlockReq;
 import com.zooting.api.domain.block.dao.BlockRepository;
 import com.zooting.api.domain.block.entity.Block;
 import com.zooting.api.domain.friend.dao.FriendRepository;
+import com.zooting.api.domain.member.application.MemberRelationService;
 import com.zooting.api.domain.member.dao.MemberRepository;
 import com.zooting.api.domain.member.entity.Member;
 import com.zooting.api.global.common.code.ErrorCode;
@@ -18,6 +19,7 @@ public class BlockAndFriendUsecase {
     private final MemberRepository memberRepository;
     private final FriendRepository friendRepository;
     private final BlockRepository blockRepository;
+    private final MemberRelationService memberRelationService;
     @Transactional
     public void insertBlockList(String userId, MemberAndBlockReq insertBlockListReq) {
 
@@ -30,12 +32,14 @@ public class BlockAndFriendUsecase {
         // 친구인 경우 친구 관계 삭제
         if (friendRepository.existsByFollowerAndFollowing(me, blockMember)) {   
             friendRepository.deleteFriendByFollowerAndFollowingOrFollowingAndFollower(me, blockMember, me, blockMember);
+            memberRelationService.removeFriend(userId, blockMember.getEmail());
         }
         //차단 목록 등록
         Block block = new Block();
         block.setFrom(me);
         block.setTo(blockMember);
         blockRepository.save(block);
+        memberRelationService.addBlock(userId, blockMember.getEmail());
 
     }
     @Transactional
@@ -46,6 +50,7 @@ public class BlockAndFriendUsecase {
         Member blockedMember = memberRepository.findMemberByNickname(nickname)
                 .orElseThrow(() -> new BaseExceptionHandler(ErrorCode.NOT_FOUND_USER));
         blockRepository.deleteBlockByFromAndTo(me, blockedMember);
+        memberRelationService.removeBlock(userId, blockedMember.getEmail());
 
     }
 
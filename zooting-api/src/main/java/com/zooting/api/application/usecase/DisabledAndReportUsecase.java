@@ -1,8 +1,10 @@
 package com.zooting.api.application.usecase;
 
 import com.zooting.api.application.dto.request.DisabledAndReportReq;
+import com.zooting.api.domain.disabled.application.SuspensionRegistry;
 import com.zooting.api.domain.disabled.dao.DisabledRepository;
 import com.zooting.api.domain.disabled.entity.DisabledMember;
+import com.zooting.api.domain.report.dao.ReportRedisDao;
 import com.zooting.api.domain.report.dao.ReportRepository;
 import com.zooting.api.domain.report.entity.ReportList;
 import com.zooting.api.global.common.code.ErrorCode;
@@ -10,16 +12,18 @@ import com.zooting.api.global.exception.BaseExceptionHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.Date;
+import java.time.LocalDateTime;
 
 @Service
 @RequiredArgsConstructor
 public class DisabledAndReportUsecase {
     private final ReportRepository reportRepository;
     private final DisabledRepository disabledRepository;
+    private final SuspensionRegistry suspensionRegistry;
+    private final ReportRedisDao reportRedisDao;
 
     @Transactional
     public void acceptReport(DisabledAndReportReq reportReq) {
@@ -28,26 +32,41 @@ public class DisabledAndReportUsecase {
 
         // 신고 수락 시 신고 목록 삭제
         reportRepository.deleteById(reportReq.reportId());
+        resolveAfterCommit(reportList.getMember().getEmail());
 
         // 활동정지 유저 추가 및 기간 설정
         DisabledMember disabled = disabledRepository.findDisabledMemberByMember(reportList.getMember())
                 .orElseGet(()-> DisabledMember.builder().member(reportList.getMember()).build());
 
-        Date now = new Date();
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-        disabled.setStartDate(sdf.format(now));
-
-        Calendar end = Calendar.getInstance();
-        end.setTime(now);
-        end.add(Calendar.YEAR, reportReq.disabledYear());
-        end.add(Calendar.MONTH, reportReq.disabledMonth());
-        end.add(Calendar.DATE, reportReq.disabledDay());
-        disabled.setEndDate(sdf.format(end.getTime()));
+        LocalDateTime now = LocalDateTime.now();
+        disabled.setStartAt(now);
+        disabled.setEndAt(now.plusYears(reportReq.disabledYear())
+                .plusMonths(reportReq.disabledMonth())
+                .plusDays(reportReq.disabledDay()));
         disabledRepository.save(disabled);
+        // 커밋 이후 모든 서버의 활동정지 목록에 반영
+        suspensionRegistry.suspend(reportList.getMember().getEmail(), disabled.getEndAt());
     }
     @Transactional
     public void rejectReport(Long reportId) {
-        // 신고 수락 시 신고 목록 삭제
+        ReportList reportList = reportRepository.findById(reportId)
+                .orElseThrow(() -> new BaseExceptionHandler((ErrorCode.NOT_FOUND_ERROR)));
+        // 신고 거부 시 신고 목록 삭제
         reportRepository.deleteById(reportId);
+        resolveAfterCommit(reportList.getMember().getEmail());
+    }
+
+    // 롤백되면 신고 목록이 남으므로 Redis 신고 수는 커밋 이후에 줄인다
+    private void resolveAfterCommit(String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reportRedisDao.resolve(email);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reportRedisDao.resolve(email);
+            }
+        });
     }
 }
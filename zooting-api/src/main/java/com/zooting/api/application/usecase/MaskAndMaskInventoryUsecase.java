@@ -6,6 +6,7 @@ import com.zooting.api.domain.mask.dao.MaskInventoryRepository;
 import com.zooting.api.domain.mask.dao.MaskRepository;
 import com.zooting.api.domain.mask.entity.Mask;
 import com.zooting.api.domain.mask.entity.MaskInventory;
+import com.zooting.api.domain.member.application.MemberProfileCache;
 import com.zooting.api.domain.member.dao.MemberRepository;
 import com.zooting.api.domain.member.entity.Member;
 import com.zooting.api.global.common.code.ErrorCode;
@@ -22,6 +23,7 @@ public class MaskAndMaskInventoryUsecase {
     final private MemberRepository memberRepository;
     final private MaskRepository maskRepository;
     final private MaskInventoryRepository maskInventoryRepository;
+    final private MemberProfileCache memberProfileCache;
 
     @Transactional
     public Boolean buyMask(String userId, MemberAndMaskReq maskReq) {
@@ -39,6 +41,7 @@ public class MaskAndMaskInventoryUsecase {
         // 포인트 차감
         member.setPoint(memberPoints - mask.getPrice());
         memberRepository.save(member);
+        memberProfileCache.evict(userId);
         // 인벤토리 추가
         MaskInventory maskInventory = new MaskInventory();
         maskInventory.setMask(mask);
@@ -3,6 +3,8 @@ package com.zooting.api.application.usecase;
 import com.zooting.api.application.dto.request.MemberAndAnimalfaceReq;
 import com.zooting.api.domain.animalface.dao.AnimalFaceRepository;
 import com.zooting.api.domain.animalface.entity.AnimalFace;
+import com.zooting.api.domain.member.application.MemberProfileCache;
+import com.zooting.api.domain.member.application.MemberRecommendationIndex;
 import com.zooting.api.domain.member.dao.MemberRepository;
 import com.zooting.api.domain.member.entity.Member;
 import com.zooting.api.domain.member.entity.Privilege;
@@ -27,6 +29,8 @@ import java.util.Objects;
 public class MemberAndAnimalfaceUsecase {
     final private MemberRepository memberRepository;
     final private AnimalFaceRepository animalFaceRepository;
+    final private MemberProfileCache memberProfileCache;
+    final private MemberRecommendationIndex memberRecommendationIndex;
     private final JwtService jwtService;
     public static final Long DEFAULT_ANIMAL_MODIFY_PRICE = 50L;
 
@@ -69,6 +73,9 @@ public class MemberAndAnimalfaceUsecase {
 
         TokenDto tokenDto = createNewToken(userDetails, member);
         memberRepository.save(member);
+        memberProfileCache.evict(member.getEmail());
+        // 동물상, USER 권한이 바뀌므로 추천 색인도 다시 읽는다
+        memberRecommendationIndex.refresh(member.getEmail());
         animalFace.setMember(member);
         animalFaceRepository.save(animalFace);
         return tokenDto;
@@ -95,7 +102,7 @@ public class MemberAndAnimalfaceUsecase {
                     // USER 권한 추가
                     CustomUserDetails user = CustomUserDetails.builder()
                             .email(userDetails.getUsername())
-                            .nickname(((CustomUserDetails) userDetails).getNickname())
+                            .nickname(member.getNickname())
                             .authorities(newAuth)
                             .build();
 
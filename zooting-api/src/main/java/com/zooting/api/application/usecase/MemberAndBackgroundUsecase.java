@@ -6,6 +6,7 @@ import com.zooting.api.domain.background.dao.BackgroundInventoryRepository;
 import com.zooting.api.domain.background.dao.BackgroundRepository;
 import com.zooting.api.domain.background.entity.Background;
 import com.zooting.api.domain.background.entity.BackgroundInventory;
+import com.zooting.api.domain.member.application.MemberProfileCache;
 import com.zooting.api.domain.member.dao.MemberRepository;
 import com.zooting.api.domain.member.entity.Member;
 import com.zooting.api.global.common.code.ErrorCode;
@@ -22,6 +23,7 @@ public class MemberAndBackgroundUsecase {
     final private MemberRepository memberRepository;
     final private BackgroundRepository backgroundRepository;
     final private BackgroundInventoryRepository backgroundInventoryRepository;
+    final private MemberProfileCache memberProfileCache;
 
     @Transactional
     public Boolean buyBackgroundImg(String userId, MemberAndBackgroundReq backgroundReq) {
@@ -40,6 +42,7 @@ public class MemberAndBackgroundUsecase {
         // 포인트 차감
         member.setPoint(memberPoints - background.getPrice());
         memberRepository.save(member);
+        memberProfileCache.evict(userId);
         // 인벤토리 추가
         BackgroundInventory bgInventory = new BackgroundInventory();
         bgInventory.setBackground(background);
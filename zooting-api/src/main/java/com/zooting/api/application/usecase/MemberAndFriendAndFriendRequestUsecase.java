@@ -3,6 +3,7 @@ package com.zooting.api.application.usecase;
 import com.zooting.api.domain.friend.dao.FriendRepository;
 import com.zooting.api.domain.friend.dao.FriendRequestRepository;
 import com.zooting.api.domain.friend.entity.Friend;
+import com.zooting.api.domain.member.application.MemberRelationService;
 import com.zooting.api.domain.member.dao.MemberRepository;
 import com.zooting.api.domain.member.entity.Member;
 import com.zooting.api.global.common.code.ErrorCode;
@@ -25,6 +26,7 @@ public class MemberAndFriendAndFriendRequestUsecase {
     private final FriendRequestRepository friendRequestRepository;
     private final MemberRepository memberRepository;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final MemberRelationService memberRelationService;
 
     @Transactional
     public String acceptFriend(String loginUserEmail, String nickname) {
@@ -41,6 +43,7 @@ public class MemberAndFriendAndFriendRequestUsecase {
         }
         // 친구 정보 추가
         friendRepository.saveAll(List.of(friend1, friend2));
+        memberRelationService.addFriend(loginUserEmail, member2.getEmail());
         // 친구 요청 정보 삭제
         friendRequestRepository.deleteFriendRequestByFromAndTo(member2, member1);
         friendRequestRepository.deleteFriendRequestByFromAndTo(member1, member2);
@@ -53,6 +56,7 @@ public class MemberAndFriendAndFriendRequestUsecase {
         Member member2 = memberRepository.findMemberByNickname(nickname)
                 .orElseThrow(()->new BaseExceptionHandler(ErrorCode.NOT_FOUND_USER));
         friendRepository.deleteFriendByFollowerAndFollowingOrFollowingAndFollower(member1, member2, member1, member2);
+        memberRelationService.removeFriend(loginUserEmail, member2.getEmail());
     }
     @Transactional
     public void rejectFriendRequest(String requestFrom, String requestTo) {
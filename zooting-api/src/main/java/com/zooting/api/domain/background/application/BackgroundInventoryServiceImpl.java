@@ -22,6 +22,7 @@ public class BackgroundInventoryServiceImpl implements BackgroundInventoryServic
                         back.getBackground().getId(),
                         back.getBackground().getFile().getFileName(),
                         back.getBackground().getFile().getImgUrl(),
-                        back.getBackground().getPrice()) ).toList();
+                        back.getBackground().getPrice(),
+                        back.getBackground().getFile().getS3Id()) ).toList();
     }
 }
@@ -2,6 +2,8 @@ package com.zooting.api.domain.background.dto.response;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.util.UUID;
+
 @Schema(description = "전체배경 조회시, 해금배경 조회시 응답 DTO")
 public record BackgroundRes(
         @Schema(description = "배경 id")
@@ -11,6 +13,8 @@ public record BackgroundRes(
         @Schema(description = "이미지 url")
         String imgUrl,
         @Schema(description = "배경 이미지 가격")
-        Long price
+        Long price,
+        @Schema(description = "이미지 파일 아이디 (크기 변환 조회용)")
+        UUID S3Id
 ) {
 }
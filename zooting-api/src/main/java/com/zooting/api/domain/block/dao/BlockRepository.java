@@ -4,6 +4,8 @@ import com.zooting.api.domain.block.entity.Block;
 import com.zooting.api.domain.member.entity.Member;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 public interface BlockRepository extends JpaRepository<Block, Long> {
@@ -11,4 +13,12 @@ public interface BlockRepository extends JpaRepository<Block, Long> {
     void deleteBlockByFromAndTo(Member from, Member to);
 
     List<Block> findBlocksByFrom(Member me);
+
+    // 내가 차단한 유저 이메일
+    @Query("SELECT b.to.email FROM Block b WHERE b.from.email = :from")
+    List<String> findToEmailsByFrom(@Param("from") String from);
+
+    // 나를 차단한 유저 이메일
+    @Query("SELECT b.from.email FROM Block b WHERE b.to.email = :to")
+    List<String> findFromEmailsByTo(@Param("to") String to);
 }
@@ -0,0 +1,157 @@
+package com.zooting.api.domain.disabled.application;
+
+import com.google.gson.Gson;
+import com.zooting.api.domain.disabled.dao.DisabledRepository;
+import com.zooting.api.domain.disabled.dao.SuspensionRow;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 활동정지 중인 유저 목록을 메모리에 두고 요청마다 DB 조회 없이 확인한다.
+ * - 이메일 -> 종료 시각 맵으로 O(1) 조회, 종료 시각 순으로 정렬된 집합으로 만료된 항목을 주기적으로 정리한다.
+ * - 활동정지가 저장되면 커밋 이후 Redis pub/sub 으로 다른 서버에 알린다.
+ * - 시작 시와 resync-interval 마다 disabled_member 에서 다시 읽어 놓친 메시지를 보정한다.
+ */
+@Log4j2
+@Component
+public class SuspensionRegistry implements MessageListener {
+    public static final String SUSPENSION_CHANNEL = "suspension";
+
+    private final Map<String, Long> suspensions = new ConcurrentHashMap<>();
+    // 종료 시각 순서, suspensions 와 함께 this 로 동기화하여 변경
+    private final TreeSet<Suspension> expiries = new TreeSet<>(
+            Comparator.comparingLong(Suspension::endAt).thenComparing(Suspension::email));
+    private final DisabledRepository disabledRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListener;
+    private final Gson gson;
+
+    public SuspensionRegistry(DisabledRepository disabledRepository,
+                              RedisTemplate<String, Object> redisTemplate,
+                              RedisMessageListenerContainer redisMessageListener,
+                              Gson gson) {
+        this.disabledRepository = disabledRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListener = redisMessageListener;
+        this.gson = gson;
+    }
+
+    @PostConstruct
+    public void start() {
+        redisMessageListener.addMessageListener(this, new ChannelTopic(SUSPENSION_CHANNEL));
+    }
+
+    @PreDestroy
+    public void stop() {
+        redisMessageListener.removeMessageListener(this, new ChannelTopic(SUSPENSION_CHANNEL));
+    }
+
+    /**
+     * 활동정지 중인지 확인. 정리 주기 전에 만료된 항목도 종료 시각으로 판단한다
+     */
+    public boolean isSuspended(String email) {
+        Long endAt = suspensions.get(email);
+        return Objects.nonNull(endAt) && endAt > System.currentTimeMillis();
+    }
+
+    /**
+     * 활동정지 등록. 트랜잭션 안에서 호출되면 커밋된 이후에 반영하고 다른 서버에 알린다
+     */
+    public void suspend(String email, LocalDateTime endAt) {
+        Suspension suspension = new Suspension(email, toEpochMilli(endAt));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(suspension);
+            publish(suspension);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(suspension);
+                publish(suspension);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${suspension.resync-interval:600000}", fixedDelayString = "${suspension.resync-interval:600000}")
+    public void reload() {
+        int count = 0;
+        for (SuspensionRow row : disabledRepository.findActiveSuspensions(LocalDateTime.now())) {
+            apply(new Suspension(row.email(), toEpochMilli(row.endAt())));
+            count++;
+        }
+        log.debug("활동정지 목록 동기화: {}건", count);
+    }
+
+    @Scheduled(fixedDelayString = "${suspension.purge-interval:60000}")
+    public synchronized void purge() {
+        long now = System.currentTimeMillis();
+        while (!expiries.isEmpty() && expiries.first().endAt() <= now) {
+            Suspension expired = expiries.pollFirst();
+            suspensions.remove(expired.email(), expired.endAt());
+        }
+    }
+
+    /**
+     * 다른 서버(또는 자신)가 발행한 활동정지를 반영. 같은 값을 다시 반영해도 결과는 같다
+     */
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        Suspension suspension = gson.fromJson(
+                redisTemplate.getStringSerializer().deserialize(message.getBody()), Suspension.class);
+        if (Objects.nonNull(suspension) && Objects.nonNull(suspension.email())) {
+            apply(suspension);
+        }
+    }
+
+    private synchronized void apply(Suspension suspension) {
+        Long previous = suspensions.get(suspension.email());
+        if (Objects.nonNull(previous)) {
+            expiries.remove(new Suspension(suspension.email(), previous));
+        }
+        if (suspension.endAt() <= System.currentTimeMillis()) {
+            suspensions.remove(suspension.email());
+            return;
+        }
+        suspensions.put(suspension.email(), suspension.endAt());
+        expiries.add(suspension);
+    }
+
+    private void publish(Suspension suspension) {
+        try {
+            redisTemplate.convertAndSend(SUSPENSION_CHANNEL, gson.toJson(suspension));
+        } catch (RuntimeException e) {
+            // 다른 서버는 다음 resync 에서 반영된다
+            log.error("활동정지 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record Suspension(String email, long endAt) {
+    }
+}
@@ -3,9 +3,16 @@ package com.zooting.api.domain.disabled.dao;
 import com.zooting.api.domain.disabled.entity.DisabledMember;
 import com.zooting.api.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface DisabledRepository extends JpaRepository<DisabledMember, Long> {
     Optional<DisabledMember> findDisabledMemberByMember(Member member);
+    // 현재 활동정지 중인 유저 (end_at 인덱스 범위 조회)
+    @Query("SELECT new com.zooting.api.domain.disabled.dao.SuspensionRow(d.member.email, d.endAt) FROM DisabledMember d WHERE d.endAt > :now")
+    List<SuspensionRow> findActiveSuspensions(@Param("now") LocalDateTime now);
 }
@@ -0,0 +1,9 @@
+package com.zooting.api.domain.disabled.dao;
+
+import java.time.LocalDateTime;
+
+/**
+ * 활동정지 목록 재구성용 이메일, 종료 시각 projection
+ */
+public record SuspensionRow(String email, LocalDateTime endAt) {
+}
@@ -5,12 +5,14 @@ import com.zooting.api.domain.member.entity.Member;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Setter
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "disabled_member")
+@Table(name = "disabled_member", indexes = @Index(name = "idx_disabled_member_end_at", columnList = "end_at"))
 public class DisabledMember extends BaseEntity {
     @Id
     @Column(name = "disabled_member_id")
@@ -19,15 +21,15 @@ public class DisabledMember extends BaseEntity {
     @ManyToOne
     @JoinColumn(name = "email")
     private Member member;
-    @Column(name = "start_date")
-    private String startDate;
-    @Column(name = "end_date")
-    private String endDate;
+    @Column(name = "start_at")
+    private LocalDateTime startAt;
+    @Column(name = "end_at")
+    private LocalDateTime endAt;
 
     @Builder
-    public DisabledMember(Member member, String startDate, String endDate) {
+    public DisabledMember(Member member, LocalDateTime startAt, LocalDateTime endAt) {
         this.member = member;
-        this.startDate = startDate;
-        this.endDate = endDate;
+        this.startAt = startAt;
+        this.endAt = endAt;
     }
 }
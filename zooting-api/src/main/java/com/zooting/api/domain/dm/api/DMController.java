@@ -1,13 +1,16 @@
 package com.zooting.api.domain.dm.api;
 
 import com.zooting.api.domain.dm.application.DMService;
+import com.zooting.api.domain.dm.dto.response.DMInboxRes;
+import com.zooting.api.domain.dm.dto.response.DMResumeRes;
+import com.zooting.api.domain.dm.dto.response.RedisDMRes;
 import com.zooting.api.domain.dm.dto.response.RedisDMRoomRes;
-import com.zooting.api.domain.dm.entity.DMRoom;
 import com.zooting.api.global.common.BaseResponse;
 import com.zooting.api.global.common.code.SuccessCode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +19,8 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @PreAuthorize("hasRole('USER')")
 @RequestMapping("/api/dm")
@@ -27,10 +32,18 @@ public class DMController {
     @Operation(summary = "DM방 번호 조회")
     @GetMapping("")
     public ResponseEntity<BaseResponse<Long>> getDmRoomId(@Valid @NotNull @RequestParam(name = "receiver") String receiver, @AuthenticationPrincipal UserDetails userDetails) {
-        DMRoom dmRoom = dmService.getDMRoom(userDetails.getUsername(), receiver);
         return BaseResponse.success(
                 SuccessCode.SELECT_SUCCESS,
-                dmRoom.getId()
+                dmService.getDMRoomId(userDetails.getUsername(), receiver)
+        );
+    }
+
+    @Operation(summary = "DM 목록 조회", description = "DM방 별 마지막 DM과 읽지 않은 DM 개수를 최신 순으로 조회")
+    @GetMapping("/inbox")
+    public ResponseEntity<BaseResponse<List<DMInboxRes>>> getDmInbox(@AuthenticationPrincipal UserDetails userDetails) {
+        return BaseResponse.success(
+                SuccessCode.SELECT_SUCCESS,
+                dmService.getDMInbox(userDetails.getUsername())
         );
     }
 
@@ -54,6 +67,24 @@ public class DMController {
         );
     }
 
+    @Operation(summary = "DM방 재연결", description = "seq 이후에 놓친 DM만 순번 순으로 조회")
+    @GetMapping("/room/resume")
+    public ResponseEntity<BaseResponse<DMResumeRes>> resumeDmRoom(@Valid @NotNull @RequestParam(name = "dmRoomId") Long dmRoomId, @Valid @NotNull @RequestParam(name = "seq") Long seq, @AuthenticationPrincipal UserDetails userDetails) {
+        return BaseResponse.success(
+                SuccessCode.SELECT_SUCCESS,
+                dmService.resumeDMRoom(dmRoomId, seq, userDetails.getUsername())
+        );
+    }
+
+    @Operation(summary = "DM 검색", description = "DM방 내에서 검색어가 포함된 DM을 최신 순으로 조회")
+    @GetMapping("/room/search")
+    public ResponseEntity<BaseResponse<List<RedisDMRes>>> searchDm(@Valid @NotNull @RequestParam(name = "dmRoomId") Long dmRoomId, @Valid @NotBlank @RequestParam(name = "keyword") String keyword, @AuthenticationPrincipal UserDetails userDetails) {
+        return BaseResponse.success(
+                SuccessCode.SELECT_SUCCESS,
+                dmService.searchDM(dmRoomId, keyword, userDetails.getUsername())
+        );
+    }
+
     @Operation(summary = "DM방 퇴장")
     @PutMapping("/room/exit")
     public ResponseEntity<BaseResponse<String>> exitDmRoom(@Valid @NotNull @RequestParam(name = "dmRoomId") Long dmRoomId, @AuthenticationPrincipal UserDetails userDetails) {
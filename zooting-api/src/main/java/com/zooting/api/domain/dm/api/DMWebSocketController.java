@@ -1,7 +1,10 @@
 package com.zooting.api.domain.dm.api;
 
 import com.zooting.api.domain.dm.application.DMService;
+import com.zooting.api.domain.dm.dto.request.DMReadReq;
 import com.zooting.api.domain.dm.dto.request.DMReq;
+import com.zooting.api.domain.dm.dto.response.DMReadRes;
+import com.zooting.api.domain.dm.dto.response.RedisDMRes;
 import com.zooting.api.global.common.SocketBaseDtoRes;
 import com.zooting.api.global.common.SocketType;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,10 +13,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.security.Principal;
+
 @Slf4j
 @RequiredArgsConstructor
 @RestController
@@ -25,12 +29,28 @@ public class DMWebSocketController {
     private final DMService dmService;
 
     /**
-     * 소켓을 통해 메시지가 들어오면 받아서 해당되는 채널로 전달
+     * 소켓을 통해 메시지가 들어오면 저장 후 DM ID, DM방 순번이 정해진 메시지를 해당되는 채널로 전달
+     * 발신자는 요청 값 대신 STOMP CONNECT 때 인증된 세션 유저를 사용하고, 수신자는 DM방 참여자로 정한다
      */
     @Operation(summary = "DM 메시지 전송")
     @MessageMapping("/dm/message")
-    public void receiveAndSendMessage(DMReq dmReq, SimpMessageHeaderAccessor headerAccessor) {
-        dmService.saveDM(dmReq);
-        template.convertAndSend("/api/sub/" + dmReq.receiver(), new SocketBaseDtoRes<>(SocketType.MESSAGE, dmReq));
+    public void receiveAndSendMessage(DMReq dmReq, Principal principal) {
+        RedisDMRes redisDMRes = dmService.saveDM(new DMReq(dmReq.dmRoomId(), dmReq.message(), principal.getName(),
+                null, dmReq.files()));
+        template.convertAndSend("/api/sub/" + redisDMRes.receiver(), new SocketBaseDtoRes<>(SocketType.MESSAGE, redisDMRes));
+    }
+
+    /**
+     * 읽음 커서가 앞으로 이동한 경우에만 상대방에게 읽음 알림 전달, 참여하지 않은 DM방이면 FORBIDDEN_ERROR
+     */
+    @Operation(summary = "DM 읽음 처리")
+    @MessageMapping("/dm/read")
+    public void readMessage(DMReadReq dmReadReq, Principal principal) {
+        String reader = principal.getName();
+        String receiver = dmService.findReceiver(dmReadReq.dmRoomId(), reader);
+        if (dmService.readDM(dmReadReq.dmRoomId(), reader, dmReadReq.dmId())) {
+            template.convertAndSend("/api/sub/" + receiver, new SocketBaseDtoRes<>(SocketType.READ,
+                    new DMReadRes(dmReadReq.dmRoomId(), reader, dmReadReq.dmId())));
+        }
     }
 }
\ No newline at end of file
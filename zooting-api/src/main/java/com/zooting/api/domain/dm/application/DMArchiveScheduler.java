@@ -0,0 +1,47 @@
+package com.zooting.api.domain.dm.application;
+
+import com.zooting.api.domain.dm.dao.DMRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * dm.archive.age-days 보다 오래된 DM을 주기적으로 보관 세그먼트로 옮겨 dm 테이블을 작게 유지한다.
+ * 세그먼트 하나가 한 트랜잭션이므로 중간에 실패해도 이미 옮긴 세그먼트는 유지된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DMArchiveScheduler {
+    private final DMArchiveService dmArchiveService;
+    private final DMRepository dmRepository;
+    @Value("${dm.archive.enabled:false}")
+    private boolean enabled;
+    @Value("${dm.archive.age-days:180}")
+    private long ageDays;
+
+    @Scheduled(cron = "${dm.archive.cron:0 0 4 * * *}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(ageDays);
+        int archived = 0;
+        for (Long dmRoomId : dmRepository.findDmRoomIdsCreatedBefore(cutoff)) {
+            try {
+                int count;
+                do {
+                    count = dmArchiveService.archiveSegment(dmRoomId, cutoff);
+                    archived += count;
+                } while (count > 0);
+            } catch (RuntimeException e) {
+                log.warn("DM 보관 실패: dmRoomId={}", dmRoomId, e);
+            }
+        }
+        log.info("DM {}건 보관 완료", archived);
+    }
+}
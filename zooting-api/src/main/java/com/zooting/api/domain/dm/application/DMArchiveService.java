@@ -0,0 +1,12 @@
+package com.zooting.api.domain.dm.application;
+
+import com.zooting.api.domain.dm.dto.response.RedisDMRes;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DMArchiveService {
+    int archiveSegment(Long dmRoomId, LocalDateTime cutoff);
+
+    List<RedisDMRes> findArchivedBefore(Long dmRoomId, Long cursor, int size);
+}
@@ -0,0 +1,197 @@
+package com.zooting.api.domain.dm.application;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.zooting.api.domain.dm.dao.DMArchiveRecord;
+import com.zooting.api.domain.dm.dao.DMArchiveSegmentRepository;
+import com.zooting.api.domain.dm.dao.DMRepository;
+import com.zooting.api.domain.dm.dto.response.RedisDMRes;
+import com.zooting.api.domain.dm.entity.DM;
+import com.zooting.api.domain.dm.entity.DMArchiveSegment;
+import com.zooting.api.domain.dm.entity.DMRoom;
+import com.zooting.api.domain.file.dao.FileRepository;
+import com.zooting.api.domain.file.dto.response.DMFileRes;
+import com.zooting.api.domain.file.entity.File;
+import com.zooting.api.global.common.code.ErrorCode;
+import com.zooting.api.global.exception.BaseExceptionHandler;
+import com.zooting.api.global.storage.FileStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 오래된 DM을 DM방 별 gzip 세그먼트로 옮기고, 스크롤 시 세그먼트에서 이어서 조회한다.
+ * 세그먼트는 변경되지 않으므로 풀어둔 내용을 LRU 로 캐싱한다.
+ */
+@Slf4j
+@Service
+public class DMArchiveServiceImpl implements DMArchiveService {
+    private static final Type RECORD_LIST_TYPE = new TypeToken<List<DMArchiveRecord>>() {
+    }.getType();
+
+    private final DMRepository dmRepository;
+    private final DMArchiveSegmentRepository dmArchiveSegmentRepository;
+    private final FileStorage fileStorage;
+    private final FileRepository fileRepository;
+    private final Gson gson;
+    private final int segmentSize;
+    private final Map<String, List<DMArchiveRecord>> segmentCache;
+
+    public DMArchiveServiceImpl(DMRepository dmRepository,
+                                DMArchiveSegmentRepository dmArchiveSegmentRepository,
+                                FileStorage fileStorage,
+                                FileRepository fileRepository,
+                                Gson gson,
+                                @Value("${dm.archive.segment-size:1000}") int segmentSize,
+                                @Value("${dm.archive.segment-cache-size:64}") int segmentCacheSize) {
+        this.dmRepository = dmRepository;
+        this.dmArchiveSegmentRepository = dmArchiveSegmentRepository;
+        this.fileStorage = fileStorage;
+        this.fileRepository = fileRepository;
+        this.gson = gson;
+        this.segmentSize = segmentSize;
+        this.segmentCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<DMArchiveRecord>> eldest) {
+                return size() > segmentCacheSize;
+            }
+        });
+    }
+
+    /**
+     * cutoff 이전에 생성된 DM방의 가장 오래된 DM을 segmentSize 개까지 세그먼트로 저장하고 dm 테이블에서 삭제한다.
+     * DM방의 마지막 DM은 옮기지 않는다. DM 목록(inbox)은 dm 테이블의 방 별 마지막 DM으로 다시 만들어지므로,
+     * 오래 대화가 없던 방도 목록에서 사라지지 않는다.
+     * 세그먼트 키는 DM ID 범위로 정해지므로, DB 반영이 실패해 다시 실행되어도 같은 키를 덮어쓴다.
+     */
+    @Override
+    @Transactional
+    public int archiveSegment(Long dmRoomId, LocalDateTime cutoff) {
+        Optional<DM> lastDm = dmRepository.findTopByDmRoomIdOrderByIdDesc(dmRoomId);
+        if (lastDm.isEmpty()) {
+            return 0;
+        }
+        List<DM> dms = dmRepository.findByDmRoomIdAndCreatedAtBeforeAndIdLessThanOrderByIdAsc(dmRoomId, cutoff,
+                lastDm.get().getId(), PageRequest.of(0, segmentSize));
+        if (dms.isEmpty()) {
+            return 0;
+        }
+        DMRoom dmRoom = dms.get(0).getDmRoom();
+        String senderEmail = dmRoom.getSender().getEmail();
+        String receiverEmail = dmRoom.getReceiver().getEmail();
+        List<Long> dmIds = dms.stream().map(DM::getId).toList();
+        Map<Long, List<File>> filesByDmId = fileRepository.findByDmIdIn(dmIds)
+                .stream()
+                .collect(Collectors.groupingBy(file -> file.getDm().getId()));
+        List<DMArchiveRecord> records = dms.stream()
+                .map(dm -> new DMArchiveRecord(
+                        dm.getId(),
+                        dm.getSeq(),
+                        dm.getMessage(),
+                        dm.getSender(),
+                        dm.getSender().equals(senderEmail) ? receiverEmail : senderEmail,
+                        filesByDmId.getOrDefault(dm.getId(), List.of())
+                                .stream()
+                                .map(file -> new DMFileRes(file.getS3Id(), file.getOriginFileName(), file.getImgUrl(), file.getThumbnailUrl()))
+                                .toList(),
+                        dm.getCreatedAt().toString()))
+                .toList();
+        Long firstDmId = dmIds.get(0);
+        Long lastDmId = dmIds.get(dmIds.size() - 1);
+        String storageKey = "dm-archive/" + dmRoomId + "/" + firstDmId + "-" + lastDmId + ".json.gz";
+        // 보관 세그먼트는 공개 URL 로 노출하지 않는다
+        fileStorage.put(storageKey, encode(records), "application/gzip", false);
+        dmArchiveSegmentRepository.save(DMArchiveSegment.builder()
+                .dmRoomId(dmRoomId)
+                .firstDmId(firstDmId)
+                .lastDmId(lastDmId)
+                .messageCount(records.size())
+                .lastSeq(dms.stream().map(DM::getSeq).filter(Objects::nonNull).max(Long::compare).orElse(null))
+                .storageKey(storageKey)
+                .build());
+        fileRepository.detachFromDms(dmIds);
+        dmRepository.deleteAllByIdInBatch(dmIds);
+        return records.size();
+    }
+
+    /**
+     * cursor 보다 이전의 보관된 DM을 최신 순으로 size 개까지 조회
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<RedisDMRes> findArchivedBefore(Long dmRoomId, Long cursor, int size) {
+        List<RedisDMRes> result = new ArrayList<>(size);
+        while (result.size() < size) {
+            Optional<DMArchiveSegment> segment = dmArchiveSegmentRepository
+                    .findTopByDmRoomIdAndFirstDmIdLessThanOrderByFirstDmIdDesc(dmRoomId, cursor);
+            if (segment.isEmpty()) {
+                break;
+            }
+            List<DMArchiveRecord> records = readSegment(segment.get().getStorageKey());
+            for (int i = records.size() - 1; i >= 0 && result.size() < size; i--) {
+                DMArchiveRecord record = records.get(i);
+                if (record.dmId() < cursor) {
+                    result.add(toRedisDMRes(dmRoomId, record));
+                }
+            }
+            cursor = segment.get().getFirstDmId();
+        }
+        return result;
+    }
+
+    private List<DMArchiveRecord> readSegment(String storageKey) {
+        List<DMArchiveRecord> records = segmentCache.get(storageKey);
+        if (records == null) {
+            records = decode(storageKey);
+            segmentCache.put(storageKey, records);
+        }
+        return records;
+    }
+
+    private byte[] encode(List<DMArchiveRecord> records) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8)) {
+            gson.toJson(records, RECORD_LIST_TYPE, writer);
+        } catch (IOException e) {
+            throw new BaseExceptionHandler(ErrorCode.IO_ERROR, e.getMessage());
+        }
+        return bytes.toByteArray();
+    }
+
+    private List<DMArchiveRecord> decode(String storageKey) {
+        try (Reader reader = new InputStreamReader(new GZIPInputStream(fileStorage.openStream(storageKey)), StandardCharsets.UTF_8)) {
+            return gson.fromJson(reader, RECORD_LIST_TYPE);
+        } catch (IOException e) {
+            throw new BaseExceptionHandler(ErrorCode.IO_ERROR, e.getMessage());
+        }
+    }
+
+    private RedisDMRes toRedisDMRes(Long dmRoomId, DMArchiveRecord record) {
+        return new RedisDMRes(dmRoomId, record.dmId(), record.seq(), "MESSAGE", record.message(), record.sender(),
+                record.receiver(), record.files(),
+                LocalDateTime.parse(record.createdAt()).format(DateTimeFormatter.ofPattern("HH:mm")));
+    }
+}
@@ -0,0 +1,64 @@
+package com.zooting.api.domain.dm.application;
+
+import com.zooting.api.domain.dm.dao.DMReadCursorRedisDao;
+import com.zooting.api.domain.dm.dao.DMRoomBatchRepository;
+import com.zooting.api.domain.dm.dao.DMRoomBatchRepository.ReadCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Redis 에 모인 읽음 커서를 주기적으로 dm_room 에 batch 반영한다.
+ * 같은 유저가 여러 DM을 읽어도 주기 당 DB 쓰기는 한 번으로 합쳐진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DMReadCursorFlusher {
+    private final DMReadCursorRedisDao dmReadCursorRedisDao;
+    private final DMRoomBatchRepository dmRoomBatchRepository;
+    @Value("${dm.read-cursor.flush-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${dm.read-cursor.flush-interval:10000}")
+    public void flush() {
+        List<Object> dirty;
+        do {
+            dirty = dmReadCursorRedisDao.popDirty(batchSize);
+            if (dirty.isEmpty()) {
+                return;
+            }
+            List<Object> cursors = dmReadCursorRedisDao.getAll(dirty);
+            List<ReadCursor> readCursors = new ArrayList<>();
+            for (int i = 0; i < dirty.size(); i++) {
+                if (Objects.isNull(cursors.get(i))) {
+                    continue;
+                }
+                String entry = (String) dirty.get(i);
+                int separator = entry.indexOf(':');
+                readCursors.add(new ReadCursor(
+                        Long.valueOf(entry.substring(0, separator)),
+                        entry.substring(separator + 1),
+                        Long.valueOf((String) cursors.get(i))
+                ));
+            }
+            if (!readCursors.isEmpty()) {
+                try {
+                    dmRoomBatchRepository.updateLastReadIds(readCursors);
+                } catch (RuntimeException e) {
+                    // 꺼낸 항목을 되돌리지 않으면 같은 유저가 다시 읽을 때까지 DB 에 반영되지 않는다
+                    dmReadCursorRedisDao.restoreDirty(dirty);
+                    log.error("읽음 커서 DB 반영 실패, 다음 주기에 재시도: {}", e.getMessage());
+                    return;
+                }
+                log.debug("읽음 커서 {}건 DB 반영", readCursors.size());
+            }
+        } while (dirty.size() >= batchSize);
+    }
+}
@@ -0,0 +1,50 @@
+package com.zooting.api.domain.dm.application;
+
+import com.zooting.api.domain.dm.entity.DMRoom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 참여자 쌍(participant_key) -> DM방 ID 매핑 캐시와 DM방 ID -> 참여자 역방향 캐시
+ * DM방은 생성 후 참여자가 바뀌지 않으므로 노드 간 무효화 없이 프로세스 내부에 보관한다.
+ */
+@Component
+public class DMRoomIdCache {
+    private final Map<String, Long> cache;
+    private final Map<Long, Participants> participantsCache;
+
+    public DMRoomIdCache(@Value("${dm.room-id-cache.size:10000}") int maxSize) {
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxSize;
+            }
+        });
+        this.participantsCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Participants> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    public Long get(String member1, String member2) {
+        return cache.get(DMRoom.participantKeyOf(member1, member2));
+    }
+
+    public void put(String member1, String member2, Long dmRoomId) {
+        cache.put(DMRoom.participantKeyOf(member1, member2), dmRoomId);
+        participantsCache.put(dmRoomId, new Participants(member1, member2));
+    }
+
+    public Participants getParticipants(Long dmRoomId) {
+        return participantsCache.get(dmRoomId);
+    }
+
+    public record Participants(String member1, String member2) {
+    }
+}
@@ -0,0 +1,201 @@
+package com.zooting.api.domain.dm.application;
+
+import com.zooting.api.domain.dm.dao.DMIndexRow;
+import com.zooting.api.domain.dm.dao.DMRepository;
+import com.zooting.api.domain.dm.util.DMNgramIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * DM방 별 n-gram 검색 색인 관리
+ * 메모리에는 최근 검색/수신된 DM방만 LRU 로 보관하고, 밀려난 색인은 로컬 디스크에 저장한다.
+ * 색인 파일이 없거나 손상된 경우 MySQL 에서 다시 만들고, 마지막 색인 ID 이후의 DM은 조회 시점에 이어서 색인한다.
+ * DM ID 는 커밋 순서와 다를 수 있으므로 settle 시간이 지난 DM 까지만 색인 완료로 표시하고,
+ * 그 이후 DM 은 다음 조회 때 다시 읽어 늦게 커밋된 작은 ID 의 DM 도 색인되게 한다.
+ */
+@Slf4j
+@Component
+public class DMSearchIndex {
+    private final DMRepository dmRepository;
+    private final Path indexDir;
+    private final int rebuildBatchSize;
+    private final long settleMillis;
+    private final Map<Long, DMNgramIndex> indexes;
+    // LRU 에서 밀려나 아직 디스크에 저장하지 않은 색인. 저장은 맵 잠금 밖에서 한다
+    private final Queue<Map.Entry<Long, DMNgramIndex>> evicted = new ConcurrentLinkedQueue<>();
+
+    public DMSearchIndex(DMRepository dmRepository,
+                         @Value("${dm.search.index-dir:./dm-index}") String indexDir,
+                         @Value("${dm.search.rebuild-batch-size:1000}") int rebuildBatchSize,
+                         @Value("${dm.search.max-rooms:1000}") int maxRooms,
+                         @Value("${dm.search.settle-millis:10000}") long settleMillis) {
+        this.dmRepository = dmRepository;
+        this.indexDir = Paths.get(indexDir);
+        this.rebuildBatchSize = rebuildBatchSize;
+        this.settleMillis = settleMillis;
+        this.indexes = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, DMNgramIndex> eldest) {
+                if (size() > maxRooms) {
+                    if (eldest.getValue().isDirty()) {
+                        evicted.add(Map.entry(eldest.getKey(), eldest.getValue()));
+                    }
+                    return true;
+                }
+                return false;
+            }
+        });
+    }
+
+    /**
+     * DM 이 커밋된 이후 호출. 메모리에 올라와 있지 않은 DM방은 다음 검색 때 이어서 색인된다
+     */
+    public void add(Long dmRoomId, Long dmId, String message) {
+        DMNgramIndex index = indexes.get(dmRoomId);
+        if (Objects.nonNull(index)) {
+            index.add(dmId, message);
+        }
+    }
+
+    /**
+     * 검색어의 n-gram 을 모두 포함하는 DM ID 후보를 오름차순으로 반환
+     */
+    public long[] findCandidates(Long dmRoomId, String keyword) {
+        DMNgramIndex index = load(dmRoomId);
+        // 다른 노드에서 저장된 DM 까지 반영 (대부분 결과가 없는 인덱스 범위 조회 한 번)
+        catchUp(dmRoomId, index);
+        return index.search(keyword);
+    }
+
+    /**
+     * DM방 색인을 MySQL 기준으로 처음부터 다시 만든다
+     */
+    public void rebuild(Long dmRoomId) {
+        DMNgramIndex index = new DMNgramIndex();
+        catchUp(dmRoomId, index);
+        indexes.put(dmRoomId, index);
+        persistEvicted();
+        persist(dmRoomId, index);
+    }
+
+    @Scheduled(fixedDelayString = "${dm.search.flush-interval:60000}")
+    public void flush() {
+        List<Map.Entry<Long, DMNgramIndex>> entries;
+        synchronized (indexes) {
+            entries = new ArrayList<>(indexes.entrySet());
+        }
+        for (Map.Entry<Long, DMNgramIndex> entry : entries) {
+            if (entry.getValue().isDirty()) {
+                persist(entry.getKey(), entry.getValue());
+            }
+        }
+        persistEvicted();
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    private DMNgramIndex load(Long dmRoomId) {
+        DMNgramIndex index = indexes.get(dmRoomId);
+        if (Objects.nonNull(index)) {
+            return index;
+        }
+        index = read(dmRoomId);
+        if (Objects.isNull(index)) {
+            index = new DMNgramIndex();
+        }
+        synchronized (indexes) {
+            DMNgramIndex loaded = indexes.get(dmRoomId);
+            if (Objects.nonNull(loaded)) {
+                return loaded;
+            }
+            indexes.put(dmRoomId, index);
+        }
+        persistEvicted();
+        return index;
+    }
+
+    private void persistEvicted() {
+        Map.Entry<Long, DMNgramIndex> entry;
+        while (Objects.nonNull(entry = evicted.poll())) {
+            persist(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void catchUp(Long dmRoomId, DMNgramIndex index) {
+        LocalDateTime settledBefore = LocalDateTime.now().minus(settleMillis, ChronoUnit.MILLIS);
+        long cursor = index.getLastDmId();
+        boolean settled = true;
+        List<DMIndexRow> rows;
+        do {
+            rows = dmRepository.findIndexRowsAfter(dmRoomId, cursor, PageRequest.of(0, rebuildBatchSize));
+            for (DMIndexRow row : rows) {
+                index.add(row.id(), row.message());
+                // 아직 커밋되지 않은 더 작은 ID 가 있을 수 있는 최근 DM 부터는 색인 완료로 표시하지 않는다
+                settled = settled && row.createdAt().isBefore(settledBefore);
+                if (settled) {
+                    index.advanceTo(row.id());
+                }
+                cursor = row.id();
+            }
+        } while (rows.size() >= rebuildBatchSize);
+    }
+
+    private DMNgramIndex read(Long dmRoomId) {
+        Path file = indexFile(dmRoomId);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            return DMNgramIndex.readFrom(in);
+        } catch (IOException e) {
+            log.warn("DM 검색 색인 파일 손상, 재구성: dmRoomId={}", dmRoomId, e);
+            return null;
+        }
+    }
+
+    private void persist(Long dmRoomId, DMNgramIndex index) {
+        Path file = indexFile(dmRoomId);
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(indexDir);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                index.writeTo(out);
+            }
+            // 저장 중 종료되어도 이전 색인 파일이 깨지지 않도록 임시 파일을 교체
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("DM 검색 색인 저장 실패: dmRoomId={}", dmRoomId, e);
+        }
+    }
+
+    private Path indexFile(Long dmRoomId) {
+        return indexDir.resolve(dmRoomId + ".idx");
+    }
+}
@@ -1,27 +1,37 @@
 package com.zooting.api.domain.dm.application;
 
 import com.zooting.api.domain.dm.dto.request.DMReq;
+import com.zooting.api.domain.dm.dto.response.DMInboxRes;
+import com.zooting.api.domain.dm.dto.response.DMResumeRes;
+import com.zooting.api.domain.dm.dto.response.RedisDMRes;
 import com.zooting.api.domain.dm.dto.response.RedisDMRoomRes;
 import com.zooting.api.domain.dm.entity.DM;
-import com.zooting.api.domain.dm.entity.DMRoom;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
 
 public interface DMService {
-    DMRoom getDMRoom(String sender, String receiver);
-
-    DMRoom createDMRoom(String sender, String receiver);
+    Long getDMRoomId(String sender, String receiver);
 
     List<DM> getAllDMList(Long dmRoomId, Long start);
 
     Page<DM> getDMList(Long dmRoomId, Long cursor);
 
-    void saveDM(DMReq dmReq);
+    RedisDMRes saveDM(DMReq dmReq);
+
+    String findReceiver(Long dmRoomId, String loginEmail);
+
+    DMResumeRes resumeDMRoom(Long dmRoomId, Long seq, String loginEmail);
+
+    List<RedisDMRes> searchDM(Long dmRoomId, String keyword, String loginEmail);
 
     RedisDMRoomRes enterDMRoomRedis(String sender, String receiver);
 
     void exitDmRoom(Long dmRoomId, String loginEmail);
 
+    boolean readDM(Long dmRoomId, String loginEmail, Long dmId);
+
     RedisDMRoomRes getDMRoomWithCursorRedis(Long dmRoomId, Long cursor, String loginEmail);
+
+    List<DMInboxRes> getDMInbox(String loginEmail);
 }
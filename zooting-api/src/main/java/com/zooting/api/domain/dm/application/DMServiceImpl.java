@@ -1,33 +1,49 @@
 package com.zooting.api.domain.dm.application;
 
 import com.google.gson.Gson;
+import com.zooting.api.domain.dm.dao.DMArchiveSegmentRepository;
+import com.zooting.api.domain.dm.dao.DMInboxRedisDao;
+import com.zooting.api.domain.dm.dao.DMReadCursorRedisDao;
 import com.zooting.api.domain.dm.dao.DMRepository;
 import com.zooting.api.domain.dm.dao.DMRoomRepository;
+import com.zooting.api.domain.dm.dao.DMSequenceRedisDao;
+import com.zooting.api.domain.dm.dao.DMUnreadCountRow;
 import com.zooting.api.domain.dm.dto.request.DMReq;
+import com.zooting.api.domain.dm.dto.response.DMInboxRes;
+import com.zooting.api.domain.dm.dto.response.DMResumeRes;
 import com.zooting.api.domain.dm.dto.response.RedisDMRes;
 import com.zooting.api.domain.dm.dto.response.RedisDMRoomRes;
 import com.zooting.api.domain.dm.entity.DM;
 import com.zooting.api.domain.dm.entity.DMRoom;
+import com.zooting.api.domain.dm.util.DMNgramIndex;
 import com.zooting.api.domain.file.dao.FileRepository;
 import com.zooting.api.domain.file.dto.response.DMFileRes;
+import com.zooting.api.domain.file.dto.response.FileRes;
 import com.zooting.api.domain.file.entity.File;
-import com.zooting.api.domain.member.dao.MemberRepository;
-import com.zooting.api.domain.member.entity.Member;
 import com.zooting.api.global.common.code.ErrorCode;
 import com.zooting.api.global.exception.BaseExceptionHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -36,27 +52,41 @@ import java.util.stream.Collectors;
 public class DMServiceImpl implements DMService {
     private final DMRepository dmRepository;
     private final DMRoomRepository dmRoomRepository;
-    private final MemberRepository memberRepository;
+    private final DMRoomIdCache dmRoomIdCache;
+    private final DMInboxRedisDao dmInboxRedisDao;
+    private final DMReadCursorRedisDao dmReadCursorRedisDao;
+    private final DMSequenceRedisDao dmSequenceRedisDao;
+    private final DMSearchIndex dmSearchIndex;
+    private final DMArchiveService dmArchiveService;
+    private final DMArchiveSegmentRepository dmArchiveSegmentRepository;
     private final FileRepository fileRepository;
     private final RedisTemplate<String, Object> redisTemplate;
     private final Gson gson;
+    @Value("${dm.catch-up.size:50}")
+    private int catchUpSize;
+    @Value("${dm.resume.size:200}")
+    private int resumeSize;
+    @Value("${dm.search.size:30}")
+    private int searchSize;
 
     @Override
-    public DMRoom getDMRoom(String sender, String receiver) {
-        Member newSender = Member.builder().email(sender).build();
-        Member newReceiver = memberRepository.findByEmail(receiver).orElseThrow(() ->
-                new BaseExceptionHandler(ErrorCode.NOT_FOUND_USER));
-        DMRoom dmRoom = dmRoomRepository.findBySenderAndReceiver(newSender, newReceiver);
-        return Objects.nonNull(dmRoom) ? dmRoom : createDMRoom(sender, receiver); // DM방이 없을 경우 생성
+    public Long getDMRoomId(String sender, String receiver) {
+        Long dmRoomId = dmRoomIdCache.get(sender, receiver);
+        if (Objects.nonNull(dmRoomId)) {
+            return dmRoomId;
+        }
+        String participantKey = DMRoom.participantKeyOf(sender, receiver);
+        dmRoomId = dmRoomRepository.findIdByParticipantKey(participantKey)
+                .orElseGet(() -> createDMRoom(participantKey, sender, receiver)); // DM방이 없을 경우 생성
+        dmRoomIdCache.put(sender, receiver, dmRoomId);
+        return dmRoomId;
     }
 
-    @Transactional
-    public DMRoom createDMRoom(String sender, String receiver) {
-        Member newSender = Member.builder().email(sender).build();
-        Member newReceiver = Member.builder().email(receiver).build();
-        DMRoom newDMRoom = DMRoom.builder().sender(newSender).receiver(newReceiver).senderLastReadId(0L).receiverLastReadId(0L).build();
-        dmRoomRepository.save(newDMRoom); // 만약 save 가 실패하면?
-        return newDMRoom;
+    private Long createDMRoom(String participantKey, String sender, String receiver) {
+        // 동시에 생성 요청이 와도 unique 인덱스로 한 건만 저장되고, 모두 같은 방 ID를 조회한다
+        dmRoomRepository.insertIgnore(participantKey, sender, receiver);
+        return dmRoomRepository.findIdByParticipantKey(participantKey).orElseThrow(() ->
+                new BaseExceptionHandler(ErrorCode.NOT_FOUND_USER));
     }
 
     @Override
@@ -70,102 +100,259 @@ public class DMServiceImpl implements DMService {
         return dmRepository.findByDmRoomIdAndIdLessThanOrderByIdDesc(dmRoomId, cursor, pageable);
     }
 
+    /**
+     * DM방 순번을 발급하여 저장하고, 저장된 DM을 반환한다.
+     * 수신자에게 전달하기 전에 순번과 ID가 정해져야 하므로 동기로 처리
+     */
     @Override
-    @Async
     @Transactional
-    public void saveDM(DMReq dmReq) {
+    public RedisDMRes saveDM(DMReq dmReq) {
+        // 수신자는 요청 값 대신 DM방 참여자로 정한다
+        String receiver = findReceiver(dmReq.dmRoomId(), dmReq.sender());
+        List<FileRes> fileResList = Objects.requireNonNullElse(dmReq.files(), List.of());
         DM dm = new DM();
         DMRoom dmRoom = new DMRoom();
         dmRoom.setId(dmReq.dmRoomId());
         dm.setDmRoom(dmRoom);
         dm.setMessage(dmReq.message());
         dm.setSender(dmReq.sender());
-        List<File> files = dmReq.files()
+        dm.setSeq(nextSeq(dmReq.dmRoomId()));
+        // 업로드 때 등록된 파일을 DM 에 연결만 한다. 파일 위치, URL 은 요청 값이 아닌 등록된 행을 사용하며
+        // 보낸 유저가 등록했고 아직 DM 에 첨부되지 않은 파일만 허용한다
+        Map<UUID, File> registeredFiles = fileResList.isEmpty() ? Map.of() : fileRepository
+                .findByS3IdIn(fileResList.stream().map(FileRes::S3Id).toList())
+                .stream()
+                .collect(Collectors.toMap(File::getS3Id, Function.identity()));
+        List<File> files = fileResList
                 .stream()
                 .map(file -> {
-                    File savedFile = File.builder()
-                            .dm(dm)
-                            .s3ID(file.S3Id())
-                            .fileName(file.fileName())
-                            .imgUrl(file.imgUrl())
-                            .fileDir(file.fileDir())
-                            .thumbnailUrl(file.thumbnailUrl())
-                            .originFileName(file.originFileName())
-                            .build();
-                    fileRepository.save(savedFile);
-                    return savedFile;
+                    File registeredFile = registeredFiles.get(file.S3Id());
+                    if (Objects.isNull(registeredFile)) {
+                        throw new BaseExceptionHandler(ErrorCode.NOT_FOUND_S3FILE);
+                    }
+                    if (!Boolean.FALSE.equals(registeredFile.getAttached()) || !dmReq.sender().equals(registeredFile.getUploader())) {
+                        throw new BaseExceptionHandler(ErrorCode.FORBIDDEN_ERROR);
+                    }
+                    registeredFile.setDm(dm);
+                    registeredFile.setAttached(true);
+                    return registeredFile;
                 }).toList();
         dm.setFiles(files);
         dmRepository.save(dm);
-        RedisDMRes redisDMRes = new RedisDMRes(dmReq.dmRoomId(), dm.getId(), "MESSAGE", dmReq.message(), dmReq.sender(), dmReq.receiver(),
-                dmReq.files()
+        RedisDMRes redisDMRes = new RedisDMRes(dmReq.dmRoomId(), dm.getId(), dm.getSeq(), "MESSAGE", dmReq.message(), dmReq.sender(), receiver,
+                files
                         .stream()
-                        .map(file -> new DMFileRes(file.S3Id(), file.originFileName(), file.imgUrl(), file.thumbnailUrl()))
+                        .map(file -> new DMFileRes(file.getS3Id(), file.getOriginFileName(), file.getImgUrl(), file.getThumbnailUrl()))
                         .toList(),
                 dm.getCreatedAt().format(DateTimeFormatter.ofPattern("HH:mm")));
         redisTemplate.opsForList().rightPush(dmReq.sender() + ":dmRoomId:" + dmReq.dmRoomId(), gson.toJson(redisDMRes));
-        redisTemplate.opsForList().rightPush(dmReq.receiver() + ":dmRoomId:" + dmReq.dmRoomId(), gson.toJson(redisDMRes));
+        redisTemplate.opsForList().rightPush(receiver + ":dmRoomId:" + dmReq.dmRoomId(), gson.toJson(redisDMRes));
+        // 커밋 전에 반영하면 DB 로 목록을 다시 채우는 중에 아직 보이지 않는 DM 이 지워질 수 있고, 롤백된 DM 이 검색, 재전송된다
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dmInboxRedisDao.updateOnMessage(redisDMRes);
+                dmSearchIndex.add(dmReq.dmRoomId(), dm.getId(), dmReq.message());
+                dmSequenceRedisDao.addRecent(redisDMRes);
+            }
+        });
+        return redisDMRes;
+    }
+
+    /**
+     * seq 이후의 DM을 최근 DM 캐시에서 조회하고, 캐시 범위를 벗어난 경우에만 DB에서 조회
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public DMResumeRes resumeDMRoom(Long dmRoomId, Long seq, String loginEmail) {
+        findParticipatingRoom(dmRoomId, loginEmail);
+        List<RedisDMRes> dmList = dmSequenceRedisDao.findRecentAfter(dmRoomId, seq, resumeSize + 1);
+        Long currentSeq = dmSequenceRedisDao.getCurrentSeq(dmRoomId);
+        boolean upToDate = dmList.isEmpty() && Objects.nonNull(currentSeq) && currentSeq <= seq;
+        if (!upToDate && (dmList.isEmpty() || dmList.get(0).seq() != seq + 1)) {
+            List<DM> dms = dmRepository.findByDmRoomIdAndSeqGreaterThanOrderBySeqAsc(dmRoomId, seq, PageRequest.of(0, resumeSize + 1));
+            Map<Long, List<File>> filesByDmId = findFilesByDms(dms);
+            dmList = dms.stream()
+                    .map(dm -> {
+                        DMRoom dmRoom = dm.getDmRoom();
+                        String receiver = dm.getSender().equals(dmRoom.getSender().getEmail())
+                                ? dmRoom.getReceiver().getEmail() : dmRoom.getSender().getEmail();
+                        return toRedisDMRes(dm, dmRoomId, receiver, filesByDmId.getOrDefault(dm.getId(), List.of()));
+                    })
+                    .toList();
+        }
+        boolean hasMore = dmList.size() > resumeSize;
+        if (hasMore) {
+            dmList = dmList.subList(0, resumeSize);
+        }
+        return new DMResumeRes(
+                dmRoomId,
+                dmList,
+                !dmList.isEmpty() ? dmList.get(dmList.size() - 1).seq() : seq,
+                hasMore
+        );
+    }
+
+    /**
+     * n-gram 색인으로 후보 DM을 좁힌 뒤, 최신 DM부터 원문에 검색어가 포함되었는지 확인하여 searchSize 개까지 반환
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<RedisDMRes> searchDM(Long dmRoomId, String keyword, String loginEmail) {
+        DMRoom dmRoom = findParticipatingRoom(dmRoomId, loginEmail);
+        String senderEmail = dmRoom.getSender().getEmail();
+        String receiverEmail = dmRoom.getReceiver().getEmail();
+        String normalizedKeyword = DMNgramIndex.normalize(keyword);
+        if (normalizedKeyword.isEmpty()) {
+            return List.of();
+        }
+        long[] candidates = dmSearchIndex.findCandidates(dmRoomId, keyword);
+        List<DM> matched = new ArrayList<>();
+        for (int end = candidates.length; end > 0 && matched.size() < searchSize; end -= searchSize) {
+            List<Long> ids = new ArrayList<>(searchSize);
+            for (int i = end - 1; i >= Math.max(0, end - searchSize); i--) {
+                ids.add(candidates[i]);
+            }
+            dmRepository.findByIdInOrderByIdDesc(ids)
+                    .stream()
+                    .filter(dm -> DMNgramIndex.normalize(dm.getMessage()).contains(normalizedKeyword))
+                    .limit(searchSize - matched.size())
+                    .forEach(matched::add);
+        }
+        Map<Long, List<File>> filesByDmId = findFilesByDms(matched);
+        return matched.stream()
+                .map(dm -> toRedisDMRes(dm, dmRoomId, dm.getSender().equals(senderEmail) ? receiverEmail : senderEmail,
+                        filesByDmId.getOrDefault(dm.getId(), List.of())))
+                .toList();
+    }
+
+    /**
+     * DM방의 상대방 email 반환, 로그인 유저가 참여하지 않은 방이면 FORBIDDEN_ERROR
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public String findReceiver(Long dmRoomId, String loginEmail) {
+        DMRoomIdCache.Participants participants = dmRoomIdCache.getParticipants(dmRoomId);
+        if (Objects.isNull(participants)) {
+            DMRoom dmRoom = dmRoomRepository.findById(dmRoomId).orElseThrow(() ->
+                    new BaseExceptionHandler(ErrorCode.NOT_FOUND_ERROR));
+            dmRoomIdCache.put(dmRoom.getSender().getEmail(), dmRoom.getReceiver().getEmail(), dmRoomId);
+            participants = new DMRoomIdCache.Participants(dmRoom.getSender().getEmail(), dmRoom.getReceiver().getEmail());
+        }
+        if (loginEmail.equals(participants.member1())) {
+            return participants.member2();
+        }
+        if (loginEmail.equals(participants.member2())) {
+            return participants.member1();
+        }
+        throw new BaseExceptionHandler(ErrorCode.FORBIDDEN_ERROR);
+    }
+
+    /**
+     * 로그인 유저가 참여한 DM방만 조회할 수 있다
+     */
+    private DMRoom findParticipatingRoom(Long dmRoomId, String loginEmail) {
+        DMRoom dmRoom = dmRoomRepository.findById(dmRoomId).orElseThrow(() ->
+                new BaseExceptionHandler(ErrorCode.NOT_FOUND_ERROR));
+        if (!loginEmail.equals(dmRoom.getSender().getEmail()) && !loginEmail.equals(dmRoom.getReceiver().getEmail())) {
+            throw new BaseExceptionHandler(ErrorCode.FORBIDDEN_ERROR);
+        }
+        return dmRoom;
+    }
+
+    private Long nextSeq(Long dmRoomId) {
+        Long seq = dmSequenceRedisDao.incrementIfExists(dmRoomId);
+        if (Objects.nonNull(seq)) {
+            return seq;
+        }
+        // 보관된 DM은 dm 테이블에 없으므로 세그먼트의 순번까지 확인한다
+        long lastSeq = Math.max(
+                dmRepository.findTopByDmRoomIdAndSeqNotNullOrderBySeqDesc(dmRoomId).map(DM::getSeq).orElse(0L),
+                dmArchiveSegmentRepository.findMaxLastSeqByDmRoomId(dmRoomId).orElse(0L));
+        return dmSequenceRedisDao.initializeAndIncrement(dmRoomId, lastSeq);
     }
 
     @Override
     @Transactional
     public RedisDMRoomRes enterDMRoomRedis(String sender, String receiver) {
-        DMRoom dmRoom = getDMRoom(sender, receiver);
-        Long cursor = getStartCursor(dmRoom.getId(), sender);
+        DMRoom dmRoom = dmRoomRepository.findById(getDMRoomId(sender, receiver)).orElseThrow(() ->
+                new BaseExceptionHandler(ErrorCode.NOT_FOUND_ERROR));
+        Long cursor = getStartCursor(dmRoom, sender);
+        dmInboxRedisDao.markRead(sender, dmRoom.getId());
         /* redis에 데이터가 있다면 불러옴 */
         List<Object> objectList = redisTemplate.opsForList().range(sender + ":dmRoomId:" + dmRoom.getId(), 0, -1);
         if (objectList != null && !objectList.isEmpty()) {
             List<RedisDMRes> redisDMResList = objectList.stream()
                     .map(obj -> gson.fromJson((String) obj, RedisDMRes.class))
                     .collect(Collectors.toList());
-            return new RedisDMRoomRes(dmRoom.getId(), redisDMResList, cursor);
+            return new RedisDMRoomRes(dmRoom.getId(), redisDMResList, cursor, false);
         }
-        List<DM> dmList = getAllDMList(dmRoom.getId(), cursor);
-        if (!dmList.isEmpty()) {
-            dmRoom.setSenderLastReadId(dmList.get(dmList.size() - 1).getId());
-            cursor = dmList.get(dmList.size() - 1).getId();
+        /* 마지막으로 읽은 DM 이후 최신 catchUpSize 개만 불러오고, 나머지는 스크롤(/room/prev)로 조회 */
+        List<DM> dmList = dmRepository.findByDmRoomIdAndIdGreaterThanEqualOrderByIdDesc(
+                dmRoom.getId(), cursor, PageRequest.of(0, catchUpSize + 1));
+        boolean hasMore = dmList.size() > catchUpSize;
+        List<DM> catchUpList = new ArrayList<>(hasMore ? dmList.subList(0, catchUpSize) : dmList);
+        Collections.reverse(catchUpList);
+        if (!catchUpList.isEmpty()) {
+            cursor = catchUpList.get(catchUpList.size() - 1).getId();
+            readDM(dmRoom.getId(), sender, cursor);
         }
-        List<RedisDMRes> redisDMResList = dmList
+        Map<Long, List<File>> filesByDmId = findFilesByDms(catchUpList);
+        List<RedisDMRes> redisDMResList = catchUpList
                 .stream()
-                .map(dm -> {
-                            RedisDMRes redisDMRes = new RedisDMRes(
-                                    dm.getDmRoom().getId(), dm.getId(), "MESSAGE", dm.getMessage(), dm.getSender(), receiver, dm.getFiles()
-                                    .stream()
-                                    .map(file -> new DMFileRes(
-                                            file.getS3Id(),
-                                            file.getOriginFileName(),
-                                            file.getImgUrl(),
-                                            file.getThumbnailUrl()
-                                    ))
-                                    .toList(),
-                                    dm.getCreatedAt().format(DateTimeFormatter.ofPattern("HH:mm")));
-                            redisTemplate.opsForList().rightPush(sender + ":dmRoomId:" + dmRoom.getId(), gson.toJson(redisDMRes));
-                            return redisDMRes;
-                        }
-                )
+                .map(dm -> toRedisDMRes(dm, dmRoom.getId(), receiver, filesByDmId.getOrDefault(dm.getId(), List.of())))
                 .toList();
-
-        return new RedisDMRoomRes(dmRoom.getId(), redisDMResList, cursor);
+        if (!redisDMResList.isEmpty()) {
+            redisTemplate.opsForList().rightPushAll(sender + ":dmRoomId:" + dmRoom.getId(),
+                    redisDMResList.stream().map(gson::toJson).toArray());
+        }
+        return new RedisDMRoomRes(dmRoom.getId(), redisDMResList, cursor, hasMore);
     }
 
 
-    @Transactional
     @Override
     public void exitDmRoom(Long dmRoomId, String loginEmail) {
-        DMRoom dmRoom = dmRoomRepository.findById(dmRoomId).orElseThrow(() ->
-                new BaseExceptionHandler(ErrorCode.NOT_FOUND_ERROR));
-        DM lastDm = dmRepository.findTopByDmRoomIdOrderByIdDesc(dmRoomId).orElse(null);
-        String sender = dmRoom.getSender().getEmail();
-        log.info("lastdmid : {}", lastDm.getId());
-        if (Objects.nonNull(lastDm)) {
-            if (dmRoom.getSender().getEmail().equals(loginEmail)) {
-                dmRoom.setSenderLastReadId(lastDm.getId());
-            } else {
-                dmRoom.setReceiverLastReadId(lastDm.getId());
-                sender = dmRoom.getReceiver().getEmail();
-            }
+        Long lastDmId = dmInboxRedisDao.findLastDmId(loginEmail, dmRoomId);
+        if (Objects.isNull(lastDmId)) {
+            lastDmId = dmRepository.findTopByDmRoomIdOrderByIdDesc(dmRoomId).map(DM::getId).orElse(null);
+        }
+        if (Objects.nonNull(lastDmId)) {
+            readDM(dmRoomId, loginEmail, lastDmId);
+        }
+        redisTemplate.expire(loginEmail + ":dmRoomId:" + dmRoomId, 60, java.util.concurrent.TimeUnit.MINUTES);
+        dmInboxRedisDao.markRead(loginEmail, dmRoomId);
+    }
+
+    /**
+     * 읽음 커서는 Redis 에서 단조 증가로만 갱신하고, DB 반영은 DMReadCursorFlusher 가 모아서 처리
+     */
+    @Override
+    public boolean readDM(Long dmRoomId, String loginEmail, Long dmId) {
+        if (!dmReadCursorRedisDao.advance(dmRoomId, loginEmail, dmId)) {
+            return false;
+        }
+        // 마지막 DM 이전까지만 읽었다면 남은 안읽은 개수는 목록을 조회할 때 다시 센다
+        dmInboxRedisDao.markReadUpTo(loginEmail, dmRoomId, dmId);
+        return true;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DMInboxRes> getDMInbox(String loginEmail) {
+        if (dmInboxRedisDao.isLoaded(loginEmail)) {
+            return recountStaleUnread(loginEmail, dmInboxRedisDao.findInbox(loginEmail));
+        }
+        /* 목록이 redis에 없다면 DB에서 한 번 불러와 채움 */
+        dmInboxRedisDao.beginRebuild(loginEmail);
+        Map<Long, Long> unflushedCursors = new HashMap<>();
+        List<DMInboxRes> inbox = loadDMInbox(loginEmail, unflushedCursors);
+        dmInboxRedisDao.rebuild(loginEmail, inbox);
+        if (unflushedCursors.isEmpty()) {
+            return inbox;
         }
-        redisTemplate.expire(sender + ":dmRoomId:" + dmRoomId, 60, java.util.concurrent.TimeUnit.MINUTES);
+        // DB 에 아직 반영되지 않은 읽음 커서는 읽음 처리와 같은 방식으로 합친 뒤 다시 센다
+        unflushedCursors.forEach((dmRoomId, cursor) -> dmInboxRedisDao.markReadUpTo(loginEmail, dmRoomId, cursor));
+        return recountStaleUnread(loginEmail, dmInboxRedisDao.findInbox(loginEmail));
     }
 
     @Override
@@ -176,38 +363,132 @@ public class DMServiceImpl implements DMService {
             cursor = redisDMRes.dmId();
         }
         Page<DM> dmList = getDMList(dmRoomId, cursor);
-        List<RedisDMRes> redisDMResList = dmList
+        Map<Long, List<File>> filesByDmId = findFilesByDms(dmList.getContent());
+        List<RedisDMRes> redisDMResList = new ArrayList<>(dmList
                 .stream()
-                .map(dm -> {
-                            RedisDMRes redisDMRes = new RedisDMRes(
-                                    dm.getDmRoom().getId(), dm.getId(), "MESSAGE", dm.getMessage(), dm.getSender(), dm.getDmRoom().getReceiver().getEmail(), dm.getFiles()
-                                    .stream()
-                                    .map(file -> new DMFileRes(
-                                            file.getS3Id(),
-                                            file.getOriginFileName(),
-                                            file.getImgUrl(),
-                                            file.getThumbnailUrl()
-                                    ))
-                                    .toList(),
-                                    dm.getCreatedAt().format(DateTimeFormatter.ofPattern("HH:mm")));
-                            redisTemplate.opsForList().leftPush(loginEmail + ":dmRoomId:" + dmRoomId, gson.toJson(redisDMRes));
-                            return redisDMRes;
-                        }
-                )
-                .toList();
+                .map(dm -> toRedisDMRes(dm, dmRoomId, dm.getDmRoom().getReceiver().getEmail(),
+                        filesByDmId.getOrDefault(dm.getId(), List.of())))
+                .toList());
+        boolean hasMore = dmList.hasNext();
+        if (!hasMore) {
+            // dm 테이블의 DM을 모두 조회했다면 보관 세그먼트에서 이어서 조회 (한 건 더 조회하여 다음 페이지 여부 확인)
+            int remaining = dmList.getSize() - redisDMResList.size();
+            Long archiveCursor = !redisDMResList.isEmpty() ? redisDMResList.get(redisDMResList.size() - 1).dmId() : cursor;
+            List<RedisDMRes> archived = dmArchiveService.findArchivedBefore(dmRoomId, archiveCursor, remaining + 1);
+            hasMore = archived.size() > remaining;
+            redisDMResList.addAll(hasMore ? archived.subList(0, remaining) : archived);
+        }
+        if (!redisDMResList.isEmpty()) {
+            // 내림차순으로 조회했으므로 leftPushAll 시 리스트 앞쪽이 오래된 DM 순서가 된다
+            redisTemplate.opsForList().leftPushAll(loginEmail + ":dmRoomId:" + dmRoomId,
+                    redisDMResList.stream().map(gson::toJson).toArray());
+        }
         return new RedisDMRoomRes(
                 dmRoomId,
                 redisDMResList,
-                !redisDMResList.isEmpty() ? redisDMResList.get(redisDMResList.size() - 1).dmId() : 0
+                !redisDMResList.isEmpty() ? redisDMResList.get(redisDMResList.size() - 1).dmId() : 0,
+                hasMore
         );
     }
 
-    private Long getStartCursor(Long dmRoomId, String sender) {
-        DMRoom dmRoom = dmRoomRepository.findById(dmRoomId).orElseThrow(() ->
-                new BaseExceptionHandler(ErrorCode.NOT_FOUND_ERROR));
-        if (dmRoom.getSender().getEmail().equals(sender)) {
-            return dmRoom.getSenderLastReadId();
+    /**
+     * DM 목록의 첨부파일을 IN 쿼리 한 번으로 조회하여 DM ID 별로 묶는다.
+     * dm.getFiles() 지연 로딩으로 인한 DM 당 추가 쿼리를 방지
+     */
+    private Map<Long, List<File>> findFilesByDms(List<DM> dmList) {
+        if (dmList.isEmpty()) {
+            return Map.of();
         }
-        return dmRoom.getReceiverLastReadId();
+        return fileRepository.findByDmIdIn(dmList.stream().map(DM::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(file -> file.getDm().getId()));
+    }
+
+    private RedisDMRes toRedisDMRes(DM dm, Long dmRoomId, String receiver, List<File> files) {
+        return new RedisDMRes(
+                dmRoomId, dm.getId(), dm.getSeq(), "MESSAGE", dm.getMessage(), dm.getSender(), receiver, files
+                .stream()
+                .map(file -> new DMFileRes(
+                        file.getS3Id(),
+                        file.getOriginFileName(),
+                        file.getImgUrl(),
+                        file.getThumbnailUrl()
+                ))
+                .toList(),
+                dm.getCreatedAt().format(DateTimeFormatter.ofPattern("HH:mm")));
+    }
+
+    /**
+     * 중간까지 읽은 DM방은 읽음 처리마다 세지 않고, 목록을 조회할 때 마지막 읽음 커서로 한 번만 다시 센다
+     */
+    private List<DMInboxRes> recountStaleUnread(String loginEmail, List<DMInboxRes> inbox) {
+        Map<Long, Long> staleCursors = dmInboxRedisDao.findStaleCursors(loginEmail);
+        if (staleCursors.isEmpty()) {
+            return inbox;
+        }
+        return inbox.stream()
+                .map(dmInboxRes -> {
+                    Long cursor = staleCursors.get(dmInboxRes.dmRoomId());
+                    if (Objects.isNull(cursor)) {
+                        return dmInboxRes;
+                    }
+                    long unreadCount = dmRepository.countByDmRoomIdAndIdGreaterThanAndSenderNot(
+                            dmInboxRes.dmRoomId(), cursor, loginEmail);
+                    dmInboxRedisDao.applyRecount(loginEmail, dmInboxRes.dmRoomId(), cursor,
+                            dmInboxRes.lastDm().dmId(), unreadCount);
+                    return new DMInboxRes(dmInboxRes.dmRoomId(), dmInboxRes.lastDm(), unreadCount);
+                })
+                .toList();
+    }
+
+    /**
+     * 안읽은 개수는 DB 읽음 커서 기준 GROUP BY 쿼리 한 번으로 센다.
+     * Redis 읽음 커서가 DB 보다 앞선 DM방은 unflushedCursors 에 담아 호출한 쪽에서 반영한다
+     */
+    private List<DMInboxRes> loadDMInbox(String loginEmail, Map<Long, Long> unflushedCursors) {
+        Map<Long, DMRoom> dmRooms = dmRoomRepository.findAllByParticipant(loginEmail)
+                .stream()
+                .collect(Collectors.toMap(DMRoom::getId, dmRoom -> dmRoom));
+        if (dmRooms.isEmpty()) {
+            return List.of();
+        }
+        List<DM> lastDms = dmRepository.findLastDmsByDmRoomIdIn(dmRooms.keySet());
+        Map<Long, List<File>> filesByDmId = findFilesByDms(lastDms);
+        Map<Long, Long> unreadCounts = dmRepository.countUnreadByDmRoomIdIn(dmRooms.keySet(), loginEmail)
+                .stream()
+                .collect(Collectors.toMap(DMUnreadCountRow::dmRoomId, DMUnreadCountRow::unreadCount));
+        return lastDms.stream()
+                .sorted(Comparator.comparing(DM::getId).reversed())
+                .map(dm -> {
+                    DMRoom dmRoom = dmRooms.get(dm.getDmRoom().getId());
+                    String senderEmail = dmRoom.getSender().getEmail();
+                    String receiverEmail = dmRoom.getReceiver().getEmail();
+                    Long cursor = dmReadCursorRedisDao.get(dmRoom.getId(), loginEmail);
+                    if (Objects.nonNull(cursor) && cursor > Objects.requireNonNullElse(getSavedCursor(dmRoom, loginEmail), 0L)) {
+                        unflushedCursors.put(dmRoom.getId(), cursor);
+                    }
+                    return new DMInboxRes(
+                            dmRoom.getId(),
+                            toRedisDMRes(dm, dmRoom.getId(), dm.getSender().equals(senderEmail) ? receiverEmail : senderEmail,
+                                    filesByDmId.getOrDefault(dm.getId(), List.of())),
+                            unreadCounts.getOrDefault(dmRoom.getId(), 0L)
+                    );
+                })
+                .toList();
+    }
+
+    private Long getStartCursor(DMRoom dmRoom, String sender) {
+        // 아직 DB에 반영되지 않은 Redis 읽음 커서가 있다면 더 최신 값
+        Long cursor = dmReadCursorRedisDao.get(dmRoom.getId(), sender);
+        Long savedCursor = getSavedCursor(dmRoom, sender);
+        if (Objects.isNull(cursor)) {
+            return savedCursor;
+        }
+        return Objects.isNull(savedCursor) ? cursor : Math.max(cursor, savedCursor);
+    }
+
+    private Long getSavedCursor(DMRoom dmRoom, String email) {
+        return dmRoom.getSender().getEmail().equals(email)
+                ? dmRoom.getSenderLastReadId() : dmRoom.getReceiverLastReadId();
     }
 }
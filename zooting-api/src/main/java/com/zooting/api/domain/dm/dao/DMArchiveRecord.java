@@ -0,0 +1,19 @@
+package com.zooting.api.domain.dm.dao;
+
+import com.zooting.api.domain.file.dto.response.DMFileRes;
+
+import java.util.List;
+
+/**
+ * 보관 세그먼트에 저장되는 DM 한 건. createdAt 은 ISO-8601 형식
+ */
+public record DMArchiveRecord(
+        Long dmId,
+        Long seq,
+        String message,
+        String sender,
+        String receiver,
+        List<DMFileRes> files,
+        String createdAt
+) {
+}
@@ -0,0 +1,19 @@
+package com.zooting.api.domain.dm.dao;
+
+import com.zooting.api.domain.dm.entity.DMArchiveSegment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface DMArchiveSegmentRepository extends JpaRepository<DMArchiveSegment, Long> {
+    // 커서보다 앞선 DM을 담은 세그먼트 중 가장 최신 세그먼트
+    Optional<DMArchiveSegment> findTopByDmRoomIdAndFirstDmIdLessThanOrderByFirstDmIdDesc(Long dmRoomId, Long cursor);
+
+    // 보관된 DM 중 가장 큰 순번
+    @Query("SELECT MAX(s.lastSeq) FROM DMArchiveSegment s WHERE s.dmRoomId = :dmRoomId")
+    Optional<Long> findMaxLastSeqByDmRoomId(@Param("dmRoomId") Long dmRoomId);
+}
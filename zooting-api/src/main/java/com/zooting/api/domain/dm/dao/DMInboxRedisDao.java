@@ -0,0 +1,234 @@
+package com.zooting.api.domain.dm.dao;
+
+import com.google.gson.Gson;
+import com.zooting.api.domain.dm.dto.response.DMInboxRes;
+import com.zooting.api.domain.dm.dto.response.RedisDMRes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 유저별 DM 목록(inbox) 을 Redis 에 유지한다.
+ * {email}:dmInbox  - ZSET, member: DM방 ID, score: 마지막 DM ID (최신 DM방 순 정렬)
+ * {email}:dmUnread - HASH, DM방 ID -> 읽지 않은 DM 개수
+ * {email}:dmLast   - HASH, DM방 ID -> 마지막 DM (RedisDMRes json)
+ * {email}:dmInboxLoaded - 기존 DM방으로 목록을 채웠는지 여부
+ * {email}:dmUnreadStale - HASH, DM방 ID -> 중간까지 읽은 읽음 커서 (목록 조회 시 안읽은 개수를 다시 센다)
+ * 목록을 채우기 전(beginRebuild) 에 남은 값을 지우고, DB 조회 중 도착한 DM 은 채울 때(rebuild) 합친다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DMInboxRedisDao {
+    private static final String INBOX = ":dmInbox";
+    private static final String UNREAD = ":dmUnread";
+    private static final String LAST = ":dmLast";
+    private static final String LOADED = ":dmInboxLoaded";
+    private static final String STALE = ":dmUnreadStale";
+    // 이미 채워진 목록이 아니면 이전에 쌓인 값을 지운다
+    private static final RedisScript<Long> BEGIN_REBUILD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[4]) == 1 then
+                return 0
+            end
+            redis.call('DEL', KEYS[1], KEYS[2], KEYS[3], KEYS[5])
+            return 1
+            """, Long.class);
+    /*
+     * ARGV: (DM방 ID, 마지막 DM ID, 마지막 DM json, 안읽은 개수) 반복
+     * DB 조회 이후 도착한 더 최신 DM 이 있으면 마지막 DM 은 유지하고 안읽은 개수는 더한다.
+     * 다른 요청이 먼저 채웠으면 아무것도 하지 않는다.
+     */
+    private static final RedisScript<Long> REBUILD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[4]) == 1 then
+                return 0
+            end
+            for i = 1, #ARGV, 4 do
+                local dmRoomId = ARGV[i]
+                local current = redis.call('ZSCORE', KEYS[1], dmRoomId)
+                local unread = tonumber(ARGV[i + 3])
+                if current and tonumber(current) > tonumber(ARGV[i + 1]) then
+                    unread = unread + tonumber(redis.call('HGET', KEYS[2], dmRoomId) or '0')
+                else
+                    redis.call('ZADD', KEYS[1], ARGV[i + 1], dmRoomId)
+                    redis.call('HSET', KEYS[3], dmRoomId, ARGV[i + 2])
+                end
+                if unread > 0 then
+                    redis.call('HSET', KEYS[2], dmRoomId, unread)
+                else
+                    redis.call('HDEL', KEYS[2], dmRoomId)
+                end
+            end
+            redis.call('SET', KEYS[4], 'true')
+            return 1
+            """, Long.class);
+    // 마지막 DM 까지 읽었으면 안읽은 개수를 지우고, 중간까지 읽었으면 읽음 커서를 남겨 목록 조회 시 다시 센다
+    private static final RedisScript<Long> READ_UP_TO_SCRIPT = new DefaultRedisScript<>("""
+            local last = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if last and tonumber(last) > tonumber(ARGV[2]) then
+                redis.call('HSET', KEYS[3], ARGV[1], ARGV[2])
+                return 0
+            end
+            redis.call('HDEL', KEYS[2], ARGV[1])
+            redis.call('HDEL', KEYS[3], ARGV[1])
+            return 1
+            """, Long.class);
+    /*
+     * ARGV: DM방 ID, 센 기준 읽음 커서, 센 시점의 마지막 DM ID, 안읽은 개수
+     * 세는 동안 더 읽었거나 새 DM 이 도착했으면 반영하지 않고 다음 조회에서 다시 센다.
+     */
+    private static final RedisScript<Long> APPLY_RECOUNT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[3], ARGV[1]) ~= ARGV[2] then
+                return 0
+            end
+            local last = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if not last or tonumber(last) ~= tonumber(ARGV[3]) then
+                return 0
+            end
+            if tonumber(ARGV[4]) > 0 then
+                redis.call('HSET', KEYS[2], ARGV[1], ARGV[4])
+            else
+                redis.call('HDEL', KEYS[2], ARGV[1])
+            end
+            redis.call('HDEL', KEYS[3], ARGV[1])
+            return 1
+            """, Long.class);
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Gson gson;
+
+    /**
+     * DM 저장 시 발신자, 수신자의 목록과 수신자의 안읽은 개수를 한 번의 파이프라인으로 갱신
+     */
+    public void updateOnMessage(RedisDMRes lastDm) {
+        String dmRoomId = String.valueOf(lastDm.dmRoomId());
+        String lastDmJson = gson.toJson(lastDm);
+        executePipelined(operations -> {
+            for (String member : List.of(lastDm.sender(), lastDm.receiver())) {
+                operations.opsForZSet().add(member + INBOX, dmRoomId, lastDm.dmId());
+                operations.opsForHash().put(member + LAST, dmRoomId, lastDmJson);
+            }
+            operations.opsForHash().increment(lastDm.receiver() + UNREAD, dmRoomId, 1);
+        });
+    }
+
+    /**
+     * DB 에서 목록을 조회하기 전에 호출. 이후 도착한 DM 은 rebuild 에서 합쳐진다
+     */
+    public void beginRebuild(String email) {
+        redisTemplate.execute(BEGIN_REBUILD_SCRIPT, keys(email));
+    }
+
+    /**
+     * 기존 DM방 정보로 목록을 채운다
+     */
+    public void rebuild(String email, List<DMInboxRes> inbox) {
+        List<Object> args = new ArrayList<>(inbox.size() * 4);
+        inbox.forEach(dmInboxRes -> {
+            args.add(String.valueOf(dmInboxRes.dmRoomId()));
+            args.add(String.valueOf(dmInboxRes.lastDm().dmId()));
+            args.add(gson.toJson(dmInboxRes.lastDm()));
+            args.add(String.valueOf(dmInboxRes.unreadCount()));
+        });
+        redisTemplate.execute(REBUILD_SCRIPT, keys(email), args.toArray());
+    }
+
+    /**
+     * dmId 까지 읽음 처리. DM방의 마지막 DM 까지 읽었으면 안읽은 개수를 지우고 true,
+     * 이후 DM 이 남아 있으면 읽음 커서만 남기고 false 를 반환한다. 남은 개수는 목록 조회 시 applyRecount 로 반영한다
+     */
+    public boolean markReadUpTo(String email, Long dmRoomId, Long dmId) {
+        Long cleared = redisTemplate.execute(READ_UP_TO_SCRIPT, List.of(email + INBOX, email + UNREAD, email + STALE),
+                String.valueOf(dmRoomId), String.valueOf(dmId));
+        return Objects.equals(cleared, 1L);
+    }
+
+    /**
+     * 안읽은 개수를 다시 세야 하는 DM방 ID -> 읽음 커서
+     */
+    public Map<Long, Long> findStaleCursors(String email) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(email + STALE);
+        Map<Long, Long> staleCursors = new HashMap<>();
+        entries.forEach((dmRoomId, cursor) -> staleCursors.put(Long.valueOf((String) dmRoomId), Long.valueOf((String) cursor)));
+        return staleCursors;
+    }
+
+    /**
+     * findStaleCursors 의 커서로 다시 센 안읽은 개수를 저장한다. 세는 사이 상태가 바뀌었으면 무시된다
+     */
+    public void applyRecount(String email, Long dmRoomId, Long cursor, Long lastDmId, long unreadCount) {
+        redisTemplate.execute(APPLY_RECOUNT_SCRIPT, List.of(email + INBOX, email + UNREAD, email + STALE),
+                String.valueOf(dmRoomId), String.valueOf(cursor), String.valueOf(lastDmId), String.valueOf(unreadCount));
+    }
+
+    public void markRead(String email, Long dmRoomId) {
+        executePipelined(operations -> {
+            operations.opsForHash().delete(email + UNREAD, String.valueOf(dmRoomId));
+            operations.opsForHash().delete(email + STALE, String.valueOf(dmRoomId));
+        });
+    }
+
+    public Long findLastDmId(String email, Long dmRoomId) {
+        Double score = redisTemplate.opsForZSet().score(email + INBOX, String.valueOf(dmRoomId));
+        return Objects.nonNull(score) ? score.longValue() : null;
+    }
+
+    public boolean isLoaded(String email) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(email + LOADED));
+    }
+
+    /**
+     * 목록, 안읽은 개수, 마지막 DM 을 한 번의 파이프라인으로 조회하여 최신 DM방 순으로 반환
+     */
+    @SuppressWarnings("unchecked")
+    public List<DMInboxRes> findInbox(String email) {
+        List<Object> results = executePipelined(operations -> {
+            operations.opsForZSet().reverseRange(email + INBOX, 0, -1);
+            operations.opsForHash().entries(email + UNREAD);
+            operations.opsForHash().entries(email + LAST);
+        });
+        Set<Object> dmRoomIds = (Set<Object>) results.get(0);
+        Map<Object, Object> unreadCounts = (Map<Object, Object>) results.get(1);
+        Map<Object, Object> lastDms = (Map<Object, Object>) results.get(2);
+        if (Objects.isNull(dmRoomIds)) {
+            return List.of();
+        }
+        return dmRoomIds.stream()
+                .filter(lastDms::containsKey)
+                .map(dmRoomId -> new DMInboxRes(
+                        Long.valueOf((String) dmRoomId),
+                        gson.fromJson((String) lastDms.get(dmRoomId), RedisDMRes.class),
+                        Long.valueOf((String) unreadCounts.getOrDefault(dmRoomId, "0"))
+                ))
+                .toList();
+    }
+
+    private static List<String> keys(String email) {
+        return List.of(email + INBOX, email + UNREAD, email + LAST, email + LOADED, email + STALE);
+    }
+
+    private List<Object> executePipelined(PipelineCallback callback) {
+        return redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                callback.execute((RedisOperations<String, Object>) operations);
+                return null;
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface PipelineCallback {
+        void execute(RedisOperations<String, Object> operations);
+    }
+}
@@ -0,0 +1,9 @@
+package com.zooting.api.domain.dm.dao;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인 재구성용 DM ID, 내용, 저장 시각 projection
+ */
+public record DMIndexRow(Long id, String message, LocalDateTime createdAt) {
+}
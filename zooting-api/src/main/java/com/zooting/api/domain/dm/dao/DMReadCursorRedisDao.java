@@ -0,0 +1,87 @@
+package com.zooting.api.domain.dm.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * DM방 읽음 커서를 Redis 에 보관하고, DB 반영이 필요한 커서를 dirty set 으로 모아둔다.
+ * dmRoomId:{id}:readCursor - HASH, 이메일 -> 마지막으로 읽은 DM ID
+ * dmReadCursor:dirty       - SET, "{dmRoomId}:{email}"
+ */
+@Component
+@RequiredArgsConstructor
+public class DMReadCursorRedisDao {
+    private static final String DIRTY = "dmReadCursor:dirty";
+    // 저장된 커서보다 클 때만 갱신 (단조 증가), 갱신되면 dirty set 에 추가
+    private static final RedisScript<Long> ADVANCE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], ARGV[1])
+            if current and tonumber(current) >= tonumber(ARGV[2]) then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('SADD', KEYS[2], ARGV[3])
+            return 1
+            """, Long.class);
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public boolean advance(Long dmRoomId, String email, Long dmId) {
+        Long updated = redisTemplate.execute(ADVANCE_SCRIPT, List.of(cursorKey(dmRoomId), DIRTY),
+                email, String.valueOf(dmId), dmRoomId + ":" + email);
+        return Objects.equals(updated, 1L);
+    }
+
+    public Long get(Long dmRoomId, String email) {
+        Object cursor = redisTemplate.opsForHash().get(cursorKey(dmRoomId), email);
+        return Objects.nonNull(cursor) ? Long.valueOf((String) cursor) : null;
+    }
+
+    /**
+     * dirty set 항목("{dmRoomId}:{email}") 들의 커서를 한 번의 파이프라인으로 조회한다.
+     */
+    public List<Object> getAll(List<Object> dirtyEntries) {
+        return redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, Object> redisOperations = (RedisOperations<String, Object>) operations;
+                dirtyEntries.forEach(entry -> {
+                    String dirtyEntry = (String) entry;
+                    int separator = dirtyEntry.indexOf(':');
+                    redisOperations.opsForHash().get(cursorKey(Long.valueOf(dirtyEntry.substring(0, separator))),
+                            dirtyEntry.substring(separator + 1));
+                });
+                return null;
+            }
+        });
+    }
+
+    /**
+     * dirty set 에서 최대 count 개를 꺼낸다. SPOP 이므로 여러 서버가 동시에 꺼내도 중복되지 않는다.
+     */
+    public List<Object> popDirty(long count) {
+        List<Object> dirty = redisTemplate.opsForSet().pop(DIRTY, count);
+        return Objects.nonNull(dirty) ? dirty : List.of();
+    }
+
+    /**
+     * DB 반영에 실패한 항목을 dirty set 에 되돌려 다음 주기에 다시 반영되게 한다
+     */
+    public void restoreDirty(List<Object> dirtyEntries) {
+        if (!dirtyEntries.isEmpty()) {
+            redisTemplate.opsForSet().add(DIRTY, dirtyEntries.toArray());
+        }
+    }
+
+    private String cursorKey(Long dmRoomId) {
+        return "dmRoomId:" + dmRoomId + ":readCursor";
+    }
+}
@@ -4,8 +4,13 @@ import com.zooting.api.domain.dm.entity.DM;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -13,4 +18,26 @@ import java.util.Optional;
 public interface DMRepository extends JpaRepository<DM, Long> {
     Page<DM> findByDmRoomIdAndIdLessThanOrderByIdDesc(Long dmRoomId, Long cursor, Pageable pageable);
     Optional<DM> findTopByDmRoomIdOrderByIdDesc(Long dmRoomId);
+    // 마지막으로 읽은 DM 이후의 최신 DM을 pageable 크기만큼 조회 (count 쿼리 없음)
+    List<DM> findByDmRoomIdAndIdGreaterThanEqualOrderByIdDesc(Long dmRoomId, Long startCursor, Pageable pageable);
+    // DM방 별 마지막 DM 조회
+    @Query("SELECT dm FROM DM dm WHERE dm.id IN (SELECT MAX(d.id) FROM DM d WHERE d.dmRoom.id IN :dmRoomIds GROUP BY d.dmRoom.id)")
+    List<DM> findLastDmsByDmRoomIdIn(@Param("dmRoomIds") Collection<Long> dmRoomIds);
+    List<DM> findByDmRoomIdAndSeqGreaterThanOrderBySeqAsc(Long dmRoomId, Long seq, Pageable pageable);
+    Optional<DM> findTopByDmRoomIdAndSeqNotNullOrderBySeqDesc(Long dmRoomId);
+    long countByDmRoomIdAndIdGreaterThanAndSenderNot(Long dmRoomId, Long lastReadId, String sender);
+    // DM방 별 DB 읽음 커서 이후 상대방이 보낸 DM 개수 (안읽은 DM이 없는 DM방은 결과에 없음)
+    @Query("SELECT new com.zooting.api.domain.dm.dao.DMUnreadCountRow(r.id, COUNT(dm)) FROM DM dm JOIN dm.dmRoom r " +
+            "WHERE r.id IN :dmRoomIds AND dm.sender <> :email " +
+            "AND dm.id > COALESCE(CASE WHEN r.sender.email = :email THEN r.senderLastReadId ELSE r.receiverLastReadId END, 0) " +
+            "GROUP BY r.id")
+    List<DMUnreadCountRow> countUnreadByDmRoomIdIn(@Param("dmRoomIds") Collection<Long> dmRoomIds, @Param("email") String email);
+    // 검색 색인 재구성용, 엔티티 대신 ID와 내용만 조회
+    @Query("SELECT new com.zooting.api.domain.dm.dao.DMIndexRow(dm.id, dm.message, dm.createdAt) FROM DM dm WHERE dm.dmRoom.id = :dmRoomId AND dm.id > :dmId ORDER BY dm.id ASC")
+    List<DMIndexRow> findIndexRowsAfter(@Param("dmRoomId") Long dmRoomId, @Param("dmId") Long dmId, Pageable pageable);
+    List<DM> findByIdInOrderByIdDesc(Collection<Long> ids);
+    // 보관 대상 DM이 있는 DM방
+    @Query("SELECT DISTINCT dm.dmRoom.id FROM DM dm WHERE dm.createdAt < :cutoff")
+    List<Long> findDmRoomIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+    List<DM> findByDmRoomIdAndCreatedAtBeforeAndIdLessThanOrderByIdAsc(Long dmRoomId, LocalDateTime cutoff, Long id, Pageable pageable);
 }
@@ -0,0 +1,35 @@
+package com.zooting.api.domain.dm.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class DMRoomBatchRepository {
+    private static final String UPDATE_LAST_READ_ID = """
+            UPDATE dm_room SET
+                sender_last_read_id = IF(sender = ?, GREATEST(COALESCE(sender_last_read_id, 0), ?), sender_last_read_id),
+                receiver_last_read_id = IF(receiver = ?, GREATEST(COALESCE(receiver_last_read_id, 0), ?), receiver_last_read_id)
+            WHERE dm_room_id = ?
+            """;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 읽음 커서를 batch update 로 반영한다. 저장된 값보다 작은 커서는 무시된다.
+     */
+    public void updateLastReadIds(List<ReadCursor> readCursors) {
+        jdbcTemplate.batchUpdate(UPDATE_LAST_READ_ID, readCursors, readCursors.size(), (ps, readCursor) -> {
+            ps.setString(1, readCursor.email());
+            ps.setLong(2, readCursor.lastReadId());
+            ps.setString(3, readCursor.email());
+            ps.setLong(4, readCursor.lastReadId());
+            ps.setLong(5, readCursor.dmRoomId());
+        });
+    }
+
+    public record ReadCursor(Long dmRoomId, String email, Long lastReadId) {
+    }
+}
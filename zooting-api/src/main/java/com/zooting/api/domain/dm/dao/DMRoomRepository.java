@@ -4,22 +4,41 @@ import com.zooting.api.domain.dm.entity.DM;
 import com.zooting.api.domain.dm.entity.DMRoom;
 import com.zooting.api.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface DMRoomRepository extends JpaRepository<DMRoom, Long> {
-    @Query("""
-            SELECT dr FROM DMRoom dr
-            WHERE (dr.sender = :sender AND dr.receiver = :receiver) OR
-            (dr.sender = :receiver AND dr.receiver = :sender)
-            """
-    )
-        // sender, receiver 역방향도 검색
-    DMRoom findBySenderAndReceiver(@Param("sender") Member sender, @Param("receiver") Member receiver);
+    // sender, receiver 역방향도 검색 (정렬된 participant_key 로 조회)
+    default DMRoom findBySenderAndReceiver(Member sender, Member receiver) {
+        return findByParticipantKey(DMRoom.participantKeyOf(sender.getEmail(), receiver.getEmail())).orElse(null);
+    }
+
+    Optional<DMRoom> findByParticipantKey(String participantKey);
+
+    @Query("SELECT dr.id FROM DMRoom dr WHERE dr.participantKey = :participantKey")
+    Optional<Long> findIdByParticipantKey(@Param("participantKey") String participantKey);
+
+    @Query("SELECT dr FROM DMRoom dr WHERE dr.sender.email = :email OR dr.receiver.email = :email")
+    List<DMRoom> findAllByParticipant(@Param("email") String email);
+
+    /**
+     * participant_key unique 인덱스로 동시에 같은 방을 생성해도 한 건만 저장된다.
+     * 이미 방이 있거나 receiver 가 존재하지 않으면 아무것도 저장하지 않는다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO dm_room (participant_key, sender, receiver, sender_last_read_id, receiver_last_read_id, created_at, updated_at)
+            VALUES (:participantKey, :sender, :receiver, 0, 0, NOW(6), NOW(6))
+            """, nativeQuery = true)
+    int insertIgnore(@Param("participantKey") String participantKey, @Param("sender") String sender, @Param("receiver") String receiver);
 
     @Query("SELECT dm FROM DM dm WHERE dm.dmRoom.id = :id AND dm.id >= :startCursor")
     List<DM> findDmsById(@Param("id") Long id, @Param("startCursor") Long startCursor);
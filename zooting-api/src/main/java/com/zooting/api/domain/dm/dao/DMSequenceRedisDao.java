@@ -0,0 +1,92 @@
+package com.zooting.api.domain.dm.dao;
+
+import com.google.gson.Gson;
+import com.zooting.api.domain.dm.dto.response.RedisDMRes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * DM방 별 순번(seq) 발급과 최근 DM 캐시
+ * dmRoomId:{id}:seq    - 마지막으로 발급한 순번
+ * dmRoomId:{id}:recent - ZSET, score: 순번, member: RedisDMRes json (최근 recent-size 개 유지)
+ */
+@Component
+@RequiredArgsConstructor
+public class DMSequenceRedisDao {
+    // 순번 키가 없으면 nil 을 반환하여 DB 의 마지막 순번으로 초기화하도록 한다
+    private static final RedisScript<Long> INCREMENT_IF_EXISTS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return nil
+            end
+            return redis.call('INCR', KEYS[1])
+            """, Long.class);
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Gson gson;
+    @Value("${dm.resume.recent-size:1000}")
+    private long recentSize;
+
+    public Long incrementIfExists(Long dmRoomId) {
+        return redisTemplate.execute(INCREMENT_IF_EXISTS_SCRIPT, List.of(seqKey(dmRoomId)));
+    }
+
+    /**
+     * 순번 키가 없을 때 DB 의 마지막 순번으로 초기화 후 발급. 여러 서버가 동시에 초기화해도 SETNX 로 한 번만 설정된다.
+     */
+    public Long initializeAndIncrement(Long dmRoomId, long lastSeq) {
+        redisTemplate.opsForValue().setIfAbsent(seqKey(dmRoomId), String.valueOf(lastSeq));
+        return redisTemplate.opsForValue().increment(seqKey(dmRoomId));
+    }
+
+    public Long getCurrentSeq(Long dmRoomId) {
+        Object seq = redisTemplate.opsForValue().get(seqKey(dmRoomId));
+        return Objects.nonNull(seq) ? Long.valueOf((String) seq) : null;
+    }
+
+    public void addRecent(RedisDMRes redisDMRes) {
+        String recentKey = recentKey(redisDMRes.dmRoomId());
+        String json = gson.toJson(redisDMRes);
+        redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, Object> redisOperations = (RedisOperations<String, Object>) operations;
+                redisOperations.opsForZSet().add(recentKey, json, redisDMRes.seq());
+                redisOperations.opsForZSet().removeRange(recentKey, 0, -recentSize - 1);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * seq 이후의 DM을 순번 순으로 최대 count 개 조회
+     */
+    public List<RedisDMRes> findRecentAfter(Long dmRoomId, Long seq, long count) {
+        Set<Object> recent = redisTemplate.opsForZSet()
+                .rangeByScore(recentKey(dmRoomId), seq + 1, Double.POSITIVE_INFINITY, 0, count);
+        if (Objects.isNull(recent)) {
+            return List.of();
+        }
+        return recent.stream()
+                .map(json -> gson.fromJson((String) json, RedisDMRes.class))
+                .toList();
+    }
+
+    private String seqKey(Long dmRoomId) {
+        return "dmRoomId:" + dmRoomId + ":seq";
+    }
+
+    private String recentKey(Long dmRoomId) {
+        return "dmRoomId:" + dmRoomId + ":recent";
+    }
+}
@@ -0,0 +1,7 @@
+package com.zooting.api.domain.dm.dao;
+
+/**
+ * DM 목록 재구성용 DM방 별 안읽은 DM 개수 projection
+ */
+public record DMUnreadCountRow(Long dmRoomId, Long unreadCount) {
+}
@@ -0,0 +1,15 @@
+package com.zooting.api.domain.dm.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "DM 읽음 처리 시 요청 Dto")
+public record DMReadReq(
+        @Schema(description = "DM방 ID")
+        @NotNull
+        Long dmRoomId,
+        @Schema(description = "마지막으로 읽은 DM ID")
+        @NotNull
+        Long dmId
+) {
+}
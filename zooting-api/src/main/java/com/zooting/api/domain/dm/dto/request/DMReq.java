@@ -19,8 +19,8 @@ public record DMReq(
         @Schema(description = "발신자")
         @NotNull
         String sender,
-        @Schema(description = "수신자")
-        @NotNull
+        @Schema(description = "수신자, 서버에서 DM방 참여자로 정한다")
+        @Nullable
         String receiver,
         @Schema(description = "파일Id, 썸네일url")
         @Nullable
@@ -0,0 +1,14 @@
+package com.zooting.api.domain.dm.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "DM 목록 조회 시 응답 Dto")
+public record DMInboxRes(
+        @Schema(description = "DM방 ID")
+        Long dmRoomId,
+        @Schema(description = "마지막 DM")
+        RedisDMRes lastDm,
+        @Schema(description = "읽지 않은 DM 개수")
+        Long unreadCount
+) {
+}
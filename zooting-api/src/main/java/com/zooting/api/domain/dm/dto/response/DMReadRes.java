@@ -0,0 +1,14 @@
+package com.zooting.api.domain.dm.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "DM 읽음 알림 응답 Dto")
+public record DMReadRes(
+        @Schema(description = "DM방 ID")
+        Long dmRoomId,
+        @Schema(description = "읽은 사람")
+        String reader,
+        @Schema(description = "마지막으로 읽은 DM ID")
+        Long lastReadId
+) {
+}
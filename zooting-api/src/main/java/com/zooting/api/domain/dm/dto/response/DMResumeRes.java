@@ -0,0 +1,18 @@
+package com.zooting.api.domain.dm.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "재연결 시 놓친 DM 조회 응답 Dto")
+public record DMResumeRes(
+        @Schema(description = "DM방 ID")
+        Long dmRoomId,
+        @Schema(description = "요청한 순번 이후의 DM, 순번 오름차순")
+        List<RedisDMRes> dmList,
+        @Schema(description = "마지막으로 받은 DM 순번, 다음 요청 시 seq 로 사용")
+        Long lastSeq,
+        @Schema(description = "아직 받지 못한 DM 존재 여부")
+        Boolean hasMore
+) {
+}
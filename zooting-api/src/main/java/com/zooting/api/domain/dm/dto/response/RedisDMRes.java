@@ -13,6 +13,8 @@ public record RedisDMRes(
         Long dmRoomId,
         @Schema(description = "DM ID")
         Long dmId,
+        @Schema(description = "DM방 내 순번")
+        Long seq,
         @Schema(description = "메시지 타입")
         String type,
         @Schema(description = "DM 내용")
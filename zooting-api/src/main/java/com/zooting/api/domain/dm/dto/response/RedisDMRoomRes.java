@@ -11,7 +11,8 @@ public record RedisDMRoomRes(
         @Schema(description = "발신자")
         List<RedisDMRes> dmList,
         @Schema(description = "커서 값, DM의 ID")
-        Long cursor
-
+        Long cursor,
+        @Schema(description = "불러오지 않은 이전 DM 존재 여부")
+        Boolean hasMore
 ) {
 }
@@ -14,7 +14,10 @@ import java.util.Objects;
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "dm")
+@Table(name = "dm", indexes = {
+        @Index(name = "idx_dm_room_seq", columnList = "dm_room_id, seq"),
+        @Index(name = "idx_dm_created_at", columnList = "created_at")
+})
 public class DM extends BaseEntity {
     @Id
     @Column(name = "dm_id")
@@ -27,12 +30,14 @@ public class DM extends BaseEntity {
     private DMRoom dmRoom;
     private String message;
     private String sender;
+    private Long seq; // DM방 내 순번
 
     @Builder
-    public DM(List<File> files, DMRoom dmRoom, String message, String sender) {
+    public DM(List<File> files, DMRoom dmRoom, String message, String sender, Long seq) {
         this.files = Objects.nonNull(files) ? files : new ArrayList<>();
         this.dmRoom = dmRoom;
         this.message = message;
         this.sender = sender;
+        this.seq = seq;
     }
 }
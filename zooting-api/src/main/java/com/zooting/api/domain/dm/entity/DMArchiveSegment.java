@@ -0,0 +1,41 @@
+package com.zooting.api.domain.dm.entity;
+
+import com.zooting.api.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * dm 테이블에서 옮겨진 DM방의 연속된 DM 묶음.
+ * 세그먼트 내용은 변경되지 않으며, 압축된 원본은 storageKey 위치의 보관 저장소에 있다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "dm_archive_segment", indexes = @Index(name = "idx_dm_archive_room_first", columnList = "dm_room_id, first_dm_id"))
+public class DMArchiveSegment extends BaseEntity {
+    @Id
+    @Column(name = "dm_archive_segment_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(name = "dm_room_id", nullable = false)
+    private Long dmRoomId;
+    @Column(name = "first_dm_id", nullable = false)
+    private Long firstDmId;
+    @Column(name = "last_dm_id", nullable = false)
+    private Long lastDmId;
+    private Integer messageCount;
+    // 세그먼트 안의 가장 큰 순번, dm 테이블에서 지워진 뒤에도 순번을 이어서 발급하기 위해 보관
+    private Long lastSeq;
+    @Column(nullable = false, unique = true)
+    private String storageKey;
+
+    @Builder
+    public DMArchiveSegment(Long dmRoomId, Long firstDmId, Long lastDmId, Integer messageCount, Long lastSeq, String storageKey) {
+        this.dmRoomId = dmRoomId;
+        this.firstDmId = firstDmId;
+        this.lastDmId = lastDmId;
+        this.messageCount = messageCount;
+        this.lastSeq = lastSeq;
+        this.storageKey = storageKey;
+    }
+}
@@ -26,6 +26,9 @@ public class DMRoom extends BaseEntity {
     @ManyToOne
     @JoinColumn(name = "receiver")
     private Member receiver;
+    // 두 참여자 이메일을 정렬하여 만든 방 키, (a,b) (b,a) 모두 같은 방을 가리킨다
+    @Column(name = "participant_key", unique = true, length = 511)
+    private String participantKey;
     @OneToMany(mappedBy = "dmRoom")
     private List<DM> dms;
     private Long senderLastReadId;
@@ -35,8 +38,13 @@ public class DMRoom extends BaseEntity {
     public DMRoom(Member sender, Member receiver, List<DM> dms, Long senderLastReadId, Long receiverLastReadId) {
         this.sender = sender;
         this.receiver = receiver;
+        this.participantKey = participantKeyOf(sender.getEmail(), receiver.getEmail());
         this.dms = Objects.nonNull(dms) ? dms : new ArrayList<>();
         this.senderLastReadId = senderLastReadId;
         this.receiverLastReadId = receiverLastReadId;
     }
+
+    public static String participantKeyOf(String member1, String member2) {
+        return member1.compareTo(member2) <= 0 ? member1 + ":" + member2 : member2 + ":" + member1;
+    }
 }
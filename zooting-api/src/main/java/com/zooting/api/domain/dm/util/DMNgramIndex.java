@@ -0,0 +1,254 @@
+package com.zooting.api.domain.dm.util;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * DM방 하나의 n-gram 역색인.
+ * 한글은 띄어쓰기가 불규칙하므로 형태소 대신 공백을 제거한 글자 단위 1-gram, 2-gram 을 색인하고,
+ * 각 gram 의 DM ID 목록은 오름차순 차이값을 가변 길이 바이트로 압축하여 보관한다.
+ * 검색 결과는 gram 이 모두 포함된 후보이므로 실제 포함 여부는 호출하는 쪽에서 원문으로 확인해야 한다.
+ * DM ID 는 커밋 전에 발급되어 커밋 순서와 다를 수 있으므로 작은 ID 가 나중에 추가되어도 정렬 위치에 넣는다.
+ * lastDmId 는 이 ID 이하의 DM 이 모두 색인되었다는 표시로, 호출하는 쪽이 advanceTo 로 올린다.
+ */
+public class DMNgramIndex {
+    private static final int MAGIC = 0x5A444D49; // "ZDMI"
+    private static final int VERSION = 1;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private long lastDmId;
+    private boolean dirty;
+
+    /**
+     * 같은 DM 을 다시 추가해도 목록에 중복되지 않는다 (재처리, 복구 시)
+     */
+    public synchronized void add(long dmId, String message) {
+        for (String gram : grams(normalize(message), true)) {
+            if (postings.computeIfAbsent(gram, key -> new PostingList()).add(dmId)) {
+                dirty = true;
+            }
+        }
+    }
+
+    /**
+     * dmId 이하의 DM 이 모두 색인되었음을 표시한다. 이전 값보다 작으면 무시
+     */
+    public synchronized void advanceTo(long dmId) {
+        if (dmId > lastDmId) {
+            lastDmId = dmId;
+            dirty = true;
+        }
+    }
+
+    /**
+     * 검색어의 gram 을 모두 포함하는 DM ID 후보를 오름차순으로 반환
+     */
+    public synchronized long[] search(String keyword) {
+        Set<String> grams = grams(normalize(keyword), false);
+        if (grams.isEmpty()) {
+            return new long[0];
+        }
+        List<PostingList> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            PostingList list = postings.get(gram);
+            if (list == null) {
+                return new long[0];
+            }
+            lists.add(list);
+        }
+        // 가장 짧은 목록부터 교집합을 구해 비교 횟수를 줄인다
+        lists.sort(Comparator.comparingInt(PostingList::size));
+        long[] result = lists.get(0).decode();
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i).decode());
+        }
+        return result;
+    }
+
+    public synchronized long getLastDmId() {
+        return lastDmId;
+    }
+
+    public synchronized int getGramCount() {
+        return postings.size();
+    }
+
+    public synchronized boolean isDirty() {
+        return dirty;
+    }
+
+    public synchronized void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(lastDmId);
+        out.writeInt(postings.size());
+        for (Map.Entry<String, PostingList> entry : postings.entrySet()) {
+            PostingList list = entry.getValue();
+            out.writeUTF(entry.getKey());
+            out.writeInt(list.count);
+            out.writeLong(list.last);
+            out.writeInt(list.length);
+            out.write(list.bytes, 0, list.length);
+        }
+        dirty = false;
+    }
+
+    public static DMNgramIndex readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("지원하지 않는 DM 색인 파일");
+        }
+        DMNgramIndex index = new DMNgramIndex();
+        index.lastDmId = in.readLong();
+        int gramCount = in.readInt();
+        for (int i = 0; i < gramCount; i++) {
+            String gram = in.readUTF();
+            PostingList list = new PostingList();
+            list.count = in.readInt();
+            list.last = in.readLong();
+            list.length = in.readInt();
+            list.bytes = new byte[Math.max(list.length, 8)];
+            in.readFully(list.bytes, 0, list.length);
+            index.postings.put(gram, list);
+        }
+        return index;
+    }
+
+    /**
+     * 전각/반각, 조합형 한글을 통일하고 대소문자와 공백 차이를 없앤다
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+        StringBuilder sb = new StringBuilder(normalized.length());
+        normalized.codePoints()
+                .filter(codePoint -> !Character.isWhitespace(codePoint))
+                .forEach(sb::appendCodePoint);
+        return sb.toString();
+    }
+
+    /**
+     * 색인 시에는 1-gram 과 2-gram 을 모두 만들고,
+     * 검색 시에는 한 글자 검색어만 1-gram 을, 그 외에는 더 선택적인 2-gram 만 사용한다
+     */
+    static Set<String> grams(String normalized, boolean forIndex) {
+        int[] codePoints = normalized.codePoints().toArray();
+        Set<String> grams = new LinkedHashSet<>();
+        if (forIndex || codePoints.length == 1) {
+            for (int codePoint : codePoints) {
+                grams.add(Character.toString(codePoint));
+            }
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 2));
+        }
+        return grams;
+    }
+
+    private static long[] intersect(long[] a, long[] b) {
+        long[] result = new long[Math.min(a.length, b.length)];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, k);
+    }
+
+    /**
+     * 오름차순 DM ID 를 이전 값과의 차이로 저장하는 가변 길이(7bit) 인코딩 목록
+     */
+    static class PostingList {
+        private byte[] bytes = new byte[8];
+        private int length;
+        private int count;
+        private long last;
+
+        /**
+         * 가장 큰 ID 보다 크면 끝에 붙이고, 그렇지 않으면 풀어서 정렬 위치에 넣은 뒤 다시 인코딩한다.
+         * 이미 있는 ID 면 false
+         */
+        boolean add(long dmId) {
+            if (count == 0 || dmId > last) {
+                append(dmId);
+                return true;
+            }
+            long[] ids = decode();
+            int position = Arrays.binarySearch(ids, dmId);
+            if (position >= 0) {
+                return false;
+            }
+            position = -position - 1;
+            long[] merged = new long[ids.length + 1];
+            System.arraycopy(ids, 0, merged, 0, position);
+            merged[position] = dmId;
+            System.arraycopy(ids, position, merged, position + 1, ids.length - position);
+            length = 0;
+            count = 0;
+            last = 0;
+            for (long id : merged) {
+                append(id);
+            }
+            return true;
+        }
+
+        private void append(long dmId) {
+            long delta = dmId - last;
+            while ((delta & ~0x7FL) != 0) {
+                write((byte) ((delta & 0x7F) | 0x80));
+                delta >>>= 7;
+            }
+            write((byte) delta);
+            last = dmId;
+            count++;
+        }
+
+        long[] decode() {
+            long[] ids = new long[count];
+            long value = 0;
+            int pos = 0;
+            for (int i = 0; i < count; i++) {
+                long delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = bytes[pos++];
+                    delta |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+                value += delta;
+                ids[i] = value;
+            }
+            return ids;
+        }
+
+        int size() {
+            return count;
+        }
+
+        private void write(byte b) {
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length << 1);
+            }
+            bytes[length++] = b;
+        }
+    }
+}
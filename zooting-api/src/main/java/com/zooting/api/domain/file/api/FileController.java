@@ -1,7 +1,13 @@
 package com.zooting.api.domain.file.api;
 
 import com.zooting.api.domain.file.application.FileService;
+import com.zooting.api.domain.file.dto.request.FileUploadCompleteReq;
+import com.zooting.api.domain.file.dto.request.FileUploadUrlReq;
+import com.zooting.api.domain.file.dto.response.FileDownloadRes;
+import com.zooting.api.domain.file.dto.response.FileDownloadUrlRes;
 import com.zooting.api.domain.file.dto.response.FileRes;
+import com.zooting.api.domain.file.dto.response.FileUploadUrlRes;
+import com.zooting.api.domain.file.util.ImageVariant;
 import com.zooting.api.global.common.BaseResponse;
 import com.zooting.api.global.common.code.SuccessCode;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,12 +16,19 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.http.*;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
-import java.nio.charset.Charset;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
@@ -31,8 +44,9 @@ public class FileController {
     @Transactional
     @Operation(summary = "파일 업로드", description = "파일 업로드")
     @PostMapping("/upload")
-    public ResponseEntity<BaseResponse<List<FileRes>>> uploadFile(List<MultipartFile> files) throws IOException {
-        List<FileRes> fileResList = fileService.uploadFiles(files);
+    public ResponseEntity<BaseResponse<List<FileRes>>> uploadFile(@AuthenticationPrincipal UserDetails userDetails,
+                                                                  List<MultipartFile> files) throws IOException {
+        List<FileRes> fileResList = fileService.uploadFiles(files, userDetails.getUsername());
         return BaseResponse.success(
                 SuccessCode.INSERT_SUCCESS,
                 fileResList
@@ -50,16 +64,141 @@ public class FileController {
         );
     }
 
-    @Operation(summary = "파일 다운로드", description = "파일 다운로드")
+    @Operation(summary = "presigned 업로드 URL 발급", description = "저장소에 직접 PUT 할 URL 발급, 업로드 후 /presigned/complete 호출")
+    @PostMapping("/presigned/upload")
+    public ResponseEntity<BaseResponse<List<FileUploadUrlRes>>> createUploadUrls(@AuthenticationPrincipal UserDetails userDetails,
+                                                                                 @RequestBody List<FileUploadUrlReq> fileUploadUrlReqList) {
+        return BaseResponse.success(
+                SuccessCode.INSERT_SUCCESS,
+                fileService.createUploadUrls(fileUploadUrlReqList, userDetails.getUsername())
+        );
+    }
+
+    @Operation(summary = "presigned 업로드 완료", description = "업로드된 파일 등록, 응답의 파일 정보로 DM 전송")
+    @PostMapping("/presigned/complete")
+    public ResponseEntity<BaseResponse<List<FileRes>>> completeUploads(@AuthenticationPrincipal UserDetails userDetails,
+                                                                       @RequestBody FileUploadCompleteReq fileUploadCompleteReq) {
+        return BaseResponse.success(
+                SuccessCode.INSERT_SUCCESS,
+                fileService.completeUploads(fileUploadCompleteReq.S3Ids(), userDetails.getUsername())
+        );
+    }
+
+    @Operation(summary = "presigned 다운로드 URL 발급", description = "저장소에서 직접 내려받을 URL 발급")
+    @GetMapping("/presigned/download")
+    public ResponseEntity<BaseResponse<FileDownloadUrlRes>> createDownloadUrl(@RequestParam UUID S3Id) {
+        return BaseResponse.success(
+                SuccessCode.SELECT_SUCCESS,
+                fileService.createDownloadUrl(S3Id)
+        );
+    }
+
+    @Operation(summary = "파일 다운로드", description = "파일 다운로드, Range 및 조건부(If-None-Match, If-Modified-Since) 요청 지원")
     @GetMapping("/download")
-    public ResponseEntity<byte[]> downloadFile(@RequestParam UUID S3Id) throws IOException {
-        var downloadFile = fileService.downloadFile(S3Id);
+    public ResponseEntity<StreamingResponseBody> downloadFile(@RequestParam UUID S3Id, @RequestHeader HttpHeaders requestHeaders) {
+        FileDownloadRes downloadFile = fileService.getDownloadFile(S3Id);
+        String eTag = "\"" + downloadFile.eTag() + "\"";
+        long contentLength = downloadFile.contentLength();
         HttpHeaders httpHeaders = new HttpHeaders();
         httpHeaders.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-//        httpHeaders.setContentDispositionFormData("attachment", (String) downloadFile[1]);
         httpHeaders.setContentDisposition(ContentDisposition.builder("attachment")
-                .filename((String) downloadFile[1], Charset.forName("UTF-8"))
+                .filename(downloadFile.originFileName(), StandardCharsets.UTF_8)
                 .build());
-        return new ResponseEntity<>((byte[]) downloadFile[0], httpHeaders, HttpStatus.OK);
+        httpHeaders.setETag(eTag);
+        if (downloadFile.lastModified() >= 0) {
+            httpHeaders.setLastModified(downloadFile.lastModified());
+        }
+        httpHeaders.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (isNotModified(requestHeaders, eTag, downloadFile.lastModified())) {
+            return new ResponseEntity<>(httpHeaders, HttpStatus.NOT_MODIFIED);
+        }
+        HttpRange range = getRange(requestHeaders, eTag, downloadFile.lastModified());
+        if (range == null || contentLength == 0) {
+            httpHeaders.setContentLength(contentLength);
+            return new ResponseEntity<>(outputStream -> fileService.writeFile(downloadFile.fileKey(), null, null, outputStream),
+                    httpHeaders, HttpStatus.OK);
+        }
+        long start;
+        long end;
+        try {
+            start = range.getRangeStart(contentLength);
+            end = range.getRangeEnd(contentLength);
+        } catch (IllegalArgumentException e) {
+            httpHeaders.set(HttpHeaders.CONTENT_RANGE, "bytes */" + contentLength);
+            return new ResponseEntity<>(httpHeaders, HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+        }
+        httpHeaders.setContentLength(end - start + 1);
+        httpHeaders.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + contentLength);
+        return new ResponseEntity<>(outputStream -> fileService.writeFile(downloadFile.fileKey(), start, end, outputStream),
+                httpHeaders, HttpStatus.PARTIAL_CONTENT);
+    }
+
+    @Operation(summary = "이미지 크기 변환 조회", description = "요청 너비(정해진 단계로 올림)와 품질(30~95)로 변환한 이미지, 원본보다 크게 늘리지 않음")
+    @GetMapping("/image")
+    public ResponseEntity<StreamingResponseBody> getImage(@RequestParam UUID S3Id,
+                                                          @RequestParam int width,
+                                                          @RequestParam(required = false) Integer quality,
+                                                          @RequestHeader HttpHeaders requestHeaders) throws IOException {
+        // 변환본은 바뀌지 않으므로 ETag 가 같으면 캐시 조회 없이 304
+        String eTag = fileService.getImageETag(S3Id, width, quality);
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
+        if (requestHeaders.getIfNoneMatch().contains(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+        }
+        ImageVariant image = fileService.getImage(S3Id, width, quality);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .contentType(MediaType.parseMediaType(image.contentType()))
+                .contentLength(image.size())
+                .body(outputStream -> {
+                    try (FileChannel channel = image.channel()) {
+                        long position = 0;
+                        WritableByteChannel target = Channels.newChannel(outputStream);
+                        while (position < image.size()) {
+                            long transferred = channel.transferTo(position, image.size() - position, target);
+                            if (transferred <= 0) {
+                                break;
+                            }
+                            position += transferred;
+                        }
+                    }
+                });
+    }
+
+    private boolean isNotModified(HttpHeaders requestHeaders, String eTag, long lastModified) {
+        List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty()) {
+            // If-None-Match 가 있으면 If-Modified-Since 는 무시 (RFC 9110)
+            return ifNoneMatch.contains("*") || ifNoneMatch.contains(eTag) || ifNoneMatch.contains("W/" + eTag);
+        }
+        long ifModifiedSince = requestHeaders.getIfModifiedSince();
+        return ifModifiedSince >= 0 && lastModified >= 0 && lastModified / 1000 <= ifModifiedSince / 1000;
+    }
+
+    /**
+     * 단일 Range 만 지원하며, 여러 범위나 잘못된 형식, If-Range 불일치는 전체 파일로 응답
+     */
+    private HttpRange getRange(HttpHeaders requestHeaders, String eTag, long lastModified) {
+        List<HttpRange> ranges;
+        try {
+            ranges = requestHeaders.getRange();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (ranges.size() != 1) {
+            return null;
+        }
+        String ifRange = requestHeaders.getFirst(HttpHeaders.IF_RANGE);
+        if (ifRange != null) {
+            boolean matches = ifRange.startsWith("\"") || ifRange.startsWith("W/")
+                    ? ifRange.equals(eTag)
+                    : lastModified >= 0 && requestHeaders.getFirstDate(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+            if (!matches) {
+                return null;
+            }
+        }
+        return ranges.get(0);
     }
 }
@@ -0,0 +1,83 @@
+package com.zooting.api.domain.file.api;
+
+import com.zooting.api.global.storage.LocalFileStorage;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 로컬 저장소의 공개 파일 제공 (S3 public-read URL 대응)
+ * 및 presigned URL 업로드/다운로드 (S3 presigned URL 대응)
+ */
+@RestController
+@RequestMapping("/api/file/local")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+@Tag(name = "파일", description = "파일 관련 API")
+public class LocalFileController {
+    private final LocalFileStorage localFileStorage;
+
+    @Operation(summary = "로컬 저장소 파일 조회")
+    @GetMapping("/{*key}")
+    public ResponseEntity<StreamingResponseBody> getFile(@PathVariable String key) throws IOException {
+        String fileKey = key.startsWith("/") ? key.substring(1) : key;
+        Path file = localFileStorage.findPublicFile(fileKey);
+        if (file == null) {
+            return ResponseEntity.notFound().build();
+        }
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.setContentType(MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM));
+        httpHeaders.setContentLength(Files.size(file));
+        return new ResponseEntity<>(outputStream -> localFileStorage.write(fileKey, null, null, outputStream),
+                httpHeaders, HttpStatus.OK);
+    }
+
+    @Operation(summary = "presigned URL 로 로컬 저장소에 파일 업로드")
+    @PutMapping("/presigned/{*key}")
+    public ResponseEntity<Void> putPresignedFile(@PathVariable String key,
+                                                 @RequestParam Long expires,
+                                                 @RequestParam String signature,
+                                                 HttpServletRequest request) throws IOException {
+        String fileKey = key.startsWith("/") ? key.substring(1) : key;
+        if (!localFileStorage.verifySignature("PUT", fileKey, expires, signature)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        localFileStorage.save(fileKey, request.getInputStream());
+        return ResponseEntity.ok().build();
+    }
+
+    @Operation(summary = "presigned URL 로 로컬 저장소 파일 다운로드")
+    @GetMapping("/presigned/{*key}")
+    public ResponseEntity<StreamingResponseBody> getPresignedFile(@PathVariable String key,
+                                                                  @RequestParam Long expires,
+                                                                  @RequestParam String signature) {
+        String fileKey = key.startsWith("/") ? key.substring(1) : key;
+        if (!localFileStorage.verifySignature("GET", fileKey, expires, signature)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+        httpHeaders.setContentLength(localFileStorage.getObject(fileKey).contentLength());
+        return new ResponseEntity<>(outputStream -> localFileStorage.write(fileKey, null, null, outputStream),
+                httpHeaders, HttpStatus.OK);
+    }
+}
@@ -0,0 +1,47 @@
+package com.zooting.api.domain.file.application;
+
+import com.zooting.api.domain.file.dao.FileRepository;
+import com.zooting.api.domain.file.entity.File;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 업로드 후 file.cleanup.unattached-hours 가 지나도록 DM 에 첨부되지 않은 파일을 삭제하여 저장소 참조를 반납한다.
+ * 파일 하나가 한 트랜잭션이므로 중간에 실패한 파일은 다음 실행에서 다시 시도한다.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class FileCleanupScheduler {
+    private final FileService fileService;
+    private final FileRepository fileRepository;
+    @Value("${file.cleanup.unattached-hours:24}")
+    private long unattachedHours;
+
+    @Scheduled(cron = "${file.cleanup.cron:0 30 4 * * *}")
+    public void cleanup() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(unattachedHours);
+        long cursor = 0L;
+        int removed = 0;
+        List<File> files;
+        do {
+            files = fileRepository.findTop100ByAttachedFalseAndCreatedAtBeforeAndIdGreaterThanOrderByIdAsc(cutoff, cursor);
+            for (File file : files) {
+                cursor = file.getId();
+                try {
+                    fileService.removeFile(file.getId());
+                    removed++;
+                } catch (RuntimeException e) {
+                    log.warn("첨부되지 않은 파일 삭제 실패: fileId={}", file.getId(), e);
+                }
+            }
+        } while (!files.isEmpty());
+        log.info("첨부되지 않은 파일 {}건 삭제 완료", removed);
+    }
+}
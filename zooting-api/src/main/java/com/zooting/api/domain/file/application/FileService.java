@@ -1,20 +1,38 @@
 package com.zooting.api.domain.file.application;
 
 
+import com.zooting.api.domain.file.dto.request.FileUploadUrlReq;
+import com.zooting.api.domain.file.dto.response.FileDownloadRes;
+import com.zooting.api.domain.file.dto.response.FileDownloadUrlRes;
 import com.zooting.api.domain.file.dto.response.FileRes;
+import com.zooting.api.domain.file.dto.response.FileUploadUrlRes;
+import com.zooting.api.domain.file.util.ImageVariant;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.UUID;
 
 public interface FileService {
 
-    List<FileRes> uploadFiles(List<MultipartFile> multipartFiles) throws IOException;
+    List<FileRes> uploadFiles(List<MultipartFile> multipartFiles, String email) throws IOException;
 
     void removeFile(Long fileId);
 
-    Object[] downloadFile(UUID S3Id) throws IOException;
+    FileDownloadRes getDownloadFile(UUID S3Id);
+
+    void writeFile(String fileKey, Long start, Long end, OutputStream outputStream) throws IOException;
+
+    List<FileUploadUrlRes> createUploadUrls(List<FileUploadUrlReq> fileUploadUrlReqList, String email);
+
+    List<FileRes> completeUploads(List<UUID> S3Ids, String email);
+
+    FileDownloadUrlRes createDownloadUrl(UUID S3Id);
+
+    String getImageETag(UUID S3Id, int width, Integer quality);
+
+    ImageVariant getImage(UUID S3Id, int width, Integer quality) throws IOException;
 
 
 }
@@ -1,19 +1,41 @@
 package com.zooting.api.domain.file.application;
 
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
 import com.zooting.api.domain.file.dao.FileRepository;
+import com.zooting.api.domain.file.dao.FileUploadRedisDao;
+import com.zooting.api.domain.file.dao.PendingFileUpload;
+import com.zooting.api.domain.file.dto.request.FileUploadUrlReq;
+import com.zooting.api.domain.file.dto.response.FileDownloadRes;
+import com.zooting.api.domain.file.dto.response.FileDownloadUrlRes;
 import com.zooting.api.domain.file.dto.response.FileRes;
+import com.zooting.api.domain.file.dto.response.FileUploadUrlRes;
 import com.zooting.api.domain.file.entity.File;
+import com.zooting.api.domain.file.util.ImageResizer;
+import com.zooting.api.domain.file.util.ImageVariant;
 import com.zooting.api.domain.file.util.S3Util;
 import com.zooting.api.global.common.code.ErrorCode;
 import com.zooting.api.global.exception.BaseExceptionHandler;
+import com.zooting.api.global.storage.PresignedUrl;
+import com.zooting.api.global.storage.StorageObject;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 @Log4j2
@@ -22,11 +44,16 @@ import java.util.UUID;
 public class FileServiceImpl implements FileService {
 
     private final S3Util s3Util;
+    private final ImageResizer imageResizer;
     private final FileRepository fileRepository;
+    private final FileUploadRedisDao fileUploadRedisDao;
+    private final Gson gson;
+    @Value("${storage.presigned.expiration-seconds:600}")
+    private long presignedExpirationSeconds;
 
     @Override
-    public List<FileRes> uploadFiles(List<MultipartFile> multipartFiles) throws IOException {
-        return s3Util.uploadFiles(multipartFiles);
+    public List<FileRes> uploadFiles(List<MultipartFile> multipartFiles, String email) throws IOException {
+        return s3Util.uploadFiles(multipartFiles, email);
     }
 
     @Transactional
@@ -34,15 +61,134 @@ public class FileServiceImpl implements FileService {
     public void removeFile(Long fileId) {
         File deleteFile = fileRepository.findById(fileId).orElseThrow(() ->
                 new BaseExceptionHandler(ErrorCode.NOT_FOUND_S3FILE));
+        // file 행이 가진 참조를 반납한다. 같은 내용을 공유하는 다른 파일이 있으면 저장소 파일은 남는다
         s3Util.remove(deleteFile.getFileDir());
         fileRepository.deleteById(fileId);
+        // 커밋 전에 지우면 삭제 전 행으로 변환본이 다시 만들어질 수 있다
+        UUID s3Id = deleteFile.getS3Id();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                imageResizer.evict(s3Id);
+            }
+        });
     }
 
     @Override
-    public Object[] downloadFile(UUID S3Id) throws IOException {
+    public FileDownloadRes getDownloadFile(UUID S3Id) {
         File file = fileRepository.findByS3Id(S3Id).orElseThrow(() ->
                 new BaseExceptionHandler(ErrorCode.NOT_FOUND_S3FILE));
-        return new Object[]{s3Util.downloadFile(file.getFileDir() + file.getFileName()),
-                file.getOriginFileName()};
+        String fileKey = file.getFileDir() + file.getFileName();
+        StorageObject storageObject = s3Util.getObject(fileKey);
+        return new FileDownloadRes(
+                fileKey,
+                file.getOriginFileName(),
+                storageObject.contentLength(),
+                storageObject.eTag(),
+                storageObject.lastModified()
+        );
+    }
+
+    @Override
+    public void writeFile(String fileKey, Long start, Long end, OutputStream outputStream) throws IOException {
+        s3Util.writeFile(fileKey, start, end, outputStream);
+    }
+
+    /**
+     * 파일 별 저장 위치를 정하고 presigned PUT URL 을 발급한다. 완료 요청 전까지 업로드 정보는 Redis 에만 보관
+     */
+    @Override
+    public List<FileUploadUrlRes> createUploadUrls(List<FileUploadUrlReq> fileUploadUrlReqList, String email) {
+        Duration expiration = Duration.ofSeconds(presignedExpirationSeconds);
+        return fileUploadUrlReqList
+                .stream()
+                .map(fileUploadUrlReq -> {
+                    String folderKey = UUID.randomUUID() + "/";
+                    UUID randomId = UUID.randomUUID();
+                    String fileName = randomId + "_" + fileUploadUrlReq.originFileName();
+                    String contentType = Objects.requireNonNullElse(fileUploadUrlReq.contentType(), "application/octet-stream");
+                    PresignedUrl presignedUrl = s3Util.presignUpload(folderKey + fileName, contentType, expiration);
+                    fileUploadRedisDao.save(randomId,
+                            new PendingFileUpload(email, folderKey, fileName, fileUploadUrlReq.originFileName(), contentType),
+                            expiration);
+                    return new FileUploadUrlRes(randomId, presignedUrl.url(), presignedUrl.headers(), presignedUrl.expiresAt());
+                }).toList();
+    }
+
+    /**
+     * 저장소에 실제로 올라간 파일만 file 로 등록한다 (DM 연결 전, dm_id 없음).
+     * 이미 등록된 파일은 다시 등록하지 않으므로 완료 요청을 재시도해도 된다
+     */
+    @Transactional
+    @Override
+    public List<FileRes> completeUploads(List<UUID> S3Ids, String email) {
+        List<FileRes> fileResList = new ArrayList<>();
+        for (UUID s3Id : S3Ids) {
+            Optional<File> savedFile = fileRepository.findByS3Id(s3Id);
+            if (savedFile.isPresent()) {
+                if (!email.equals(savedFile.get().getUploader())) {
+                    throw new BaseExceptionHandler(ErrorCode.FORBIDDEN_ERROR);
+                }
+                fileResList.add(toFileRes(savedFile.get()));
+                continue;
+            }
+            PendingFileUpload pendingFileUpload = fileUploadRedisDao.find(s3Id);
+            if (Objects.isNull(pendingFileUpload)) {
+                throw new BaseExceptionHandler(ErrorCode.NOT_FOUND_S3FILE);
+            }
+            if (!pendingFileUpload.email().equals(email)) {
+                throw new BaseExceptionHandler(ErrorCode.FORBIDDEN_ERROR);
+            }
+            // 클라이언트가 PUT 을 마쳤는지 HEAD 요청으로 확인, 없으면 NOT_FOUND_S3FILE
+            s3Util.getObject(pendingFileUpload.fileDir() + pendingFileUpload.fileName());
+            FileRes fileRes = s3Util.toFileRes(s3Id, pendingFileUpload.originFileName(), pendingFileUpload.fileDir(),
+                    pendingFileUpload.fileName(), pendingFileUpload.contentType());
+            fileRepository.save(File.builder()
+                    .s3ID(s3Id)
+                    .fileName(fileRes.fileName())
+                    .imgUrl(fileRes.imgUrl())
+                    .fileDir(fileRes.fileDir())
+                    .thumbnailUrl(fileRes.thumbnailUrl())
+                    .thumbnailUrls(Objects.nonNull(fileRes.thumbnailUrls()) ? gson.toJson(fileRes.thumbnailUrls()) : null)
+                    .originFileName(fileRes.originFileName())
+                    .uploader(email)
+                    .attached(false)
+                    .build());
+            fileUploadRedisDao.delete(s3Id);
+            s3Util.generateThumbnails(fileRes, pendingFileUpload.contentType());
+            fileResList.add(fileRes);
+        }
+        return fileResList;
+    }
+
+    @Override
+    public FileDownloadUrlRes createDownloadUrl(UUID S3Id) {
+        File file = fileRepository.findByS3Id(S3Id).orElseThrow(() ->
+                new BaseExceptionHandler(ErrorCode.NOT_FOUND_S3FILE));
+        PresignedUrl presignedUrl = s3Util.presignDownload(file.getFileDir() + file.getFileName(), file.getOriginFileName(),
+                Duration.ofSeconds(presignedExpirationSeconds));
+        return new FileDownloadUrlRes(presignedUrl.url(), presignedUrl.expiresAt());
+    }
+
+    @Override
+    public String getImageETag(UUID S3Id, int width, Integer quality) {
+        // 삭제되었거나 없는 파일은 304 로 응답하지 않는다
+        if (!fileRepository.existsByS3Id(S3Id)) {
+            throw new BaseExceptionHandler(ErrorCode.NOT_FOUND_S3FILE);
+        }
+        return imageResizer.eTag(S3Id, width, quality);
+    }
+
+    @Override
+    public ImageVariant getImage(UUID S3Id, int width, Integer quality) throws IOException {
+        return imageResizer.open(S3Id, width, quality);
+    }
+
+    private FileRes toFileRes(File file) {
+        Map<String, String> thumbnailUrls = Objects.nonNull(file.getThumbnailUrls())
+                ? gson.fromJson(file.getThumbnailUrls(), new TypeToken<LinkedHashMap<String, String>>() {}.getType())
+                : null;
+        return new FileRes(file.getS3Id(), file.getOriginFileName(), file.getFileName(), file.getImgUrl(),
+                file.getFileDir(), file.getThumbnailUrl(), thumbnailUrls);
     }
 }
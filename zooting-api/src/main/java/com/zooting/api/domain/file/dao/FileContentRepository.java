@@ -0,0 +1,33 @@
+package com.zooting.api.domain.file.dao;
+
+import com.zooting.api.domain.file.entity.FileContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface FileContentRepository extends JpaRepository<FileContent, Long> {
+    Optional<FileContent> findFirstByContentHashOrderByIdAsc(String contentHash);
+
+    // 조회 후 증가 전에 마지막 참조가 지워졌다면 0 을 반환하므로 새로 업로드해야 한다
+    @Modifying
+    @Query("UPDATE FileContent c SET c.refCount = c.refCount + 1 WHERE c.id = :id AND c.refCount > 0")
+    int incrementRefCount(@Param("id") Long id);
+
+    // 색인되지 않은 파일(presigned 업로드, 이전 업로드)이면 0 을 반환
+    @Modifying
+    @Query("UPDATE FileContent c SET c.refCount = c.refCount - 1 WHERE c.fileDir = :fileDir")
+    int decrementRefCount(@Param("fileDir") String fileDir);
+
+    @Modifying
+    @Query("DELETE FROM FileContent c WHERE c.fileDir = :fileDir AND c.refCount <= 0")
+    int deleteUnreferenced(@Param("fileDir") String fileDir);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE FileContent c SET c.thumbnailUrl = :thumbnailUrl, c.thumbnailUrls = :thumbnailUrls WHERE c.fileDir = :fileDir")
+    int updateThumbnailUrls(@Param("fileDir") String fileDir, @Param("thumbnailUrl") String thumbnailUrl, @Param("thumbnailUrls") String thumbnailUrls);
+}
@@ -2,7 +2,15 @@ package com.zooting.api.domain.file.dao;
 
 import com.zooting.api.domain.file.entity.File;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -10,4 +18,37 @@ public interface FileRepository extends JpaRepository<File, Long> {
     void deleteByFileName(String fileName);
 
     Optional<File> findByS3Id(UUID S3Id);
+
+    boolean existsByS3Id(UUID S3Id);
+
+    // presigned 업로드로 미리 등록된 파일 조회
+    List<File> findByS3IdIn(Collection<UUID> S3Ids);
+
+    // 여러 DM의 첨부파일을 한 번의 쿼리로 조회
+    List<File> findByDmIdIn(Collection<Long> dmIds);
+
+    // DM 보관 시 파일은 다운로드를 위해 남기고 DM 연관만 끊는다
+    @Modifying
+    @Query("UPDATE File f SET f.dm = null WHERE f.dm.id IN :dmIds")
+    int detachFromDms(@Param("dmIds") Collection<Long> dmIds);
+
+    // 첨부되지 않은 채 남은 업로드 정리 대상, attached 가 null 인 이전 행은 제외
+    List<File> findTop100ByAttachedFalseAndCreatedAtBeforeAndIdGreaterThanOrderByIdAsc(LocalDateTime createdAt, Long id);
+
+    // 썸네일 생성 완료(실패 시 null) 반영, 같은 내용을 재사용하는 행까지 폴더 기준으로 갱신한다
+    @Transactional
+    @Modifying
+    @Query("UPDATE File f SET f.thumbnailUrl = :thumbnailUrl, f.thumbnailUrls = :thumbnailUrls WHERE f.fileDir = :fileDir")
+    int updateThumbnailUrls(@Param("fileDir") String fileDir, @Param("thumbnailUrl") String thumbnailUrl, @Param("thumbnailUrls") String thumbnailUrls);
+
+    // file_content 에 기록된 썸네일 생성 결과를 재사용한 file 행에 복사, 커밋 이후 호출되므로 별도 트랜잭션
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("""
+            UPDATE File f
+            SET f.thumbnailUrl = (SELECT c.thumbnailUrl FROM FileContent c WHERE c.fileDir = f.fileDir),
+                f.thumbnailUrls = (SELECT c.thumbnailUrls FROM FileContent c WHERE c.fileDir = f.fileDir)
+            WHERE f.s3Id IN :s3Ids AND EXISTS (SELECT c.id FROM FileContent c WHERE c.fileDir = f.fileDir)
+            """)
+    int applyContentThumbnails(@Param("s3Ids") Collection<UUID> s3Ids);
 }
@@ -0,0 +1,39 @@
+package com.zooting.api.domain.file.dao;
+
+import com.google.gson.Gson;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * presigned 업로드 대기 정보를 Redis 에 보관한다. URL 만료 후 완료 요청을 받을 여유 시간만큼 더 유지
+ * fileUpload:{s3Id} - STRING, PendingFileUpload JSON
+ */
+@Component
+@RequiredArgsConstructor
+public class FileUploadRedisDao {
+    private static final Duration GRACE = Duration.ofMinutes(10);
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Gson gson;
+
+    public void save(UUID s3Id, PendingFileUpload pendingFileUpload, Duration expiration) {
+        redisTemplate.opsForValue().set(uploadKey(s3Id), gson.toJson(pendingFileUpload), expiration.plus(GRACE));
+    }
+
+    public PendingFileUpload find(UUID s3Id) {
+        Object pendingFileUpload = redisTemplate.opsForValue().get(uploadKey(s3Id));
+        return Objects.nonNull(pendingFileUpload) ? gson.fromJson((String) pendingFileUpload, PendingFileUpload.class) : null;
+    }
+
+    public void delete(UUID s3Id) {
+        redisTemplate.delete(uploadKey(s3Id));
+    }
+
+    private String uploadKey(UUID s3Id) {
+        return "fileUpload:" + s3Id;
+    }
+}
@@ -0,0 +1,13 @@
+package com.zooting.api.domain.file.dao;
+
+/**
+ * presigned URL 을 발급했지만 아직 완료 처리되지 않은 업로드
+ */
+public record PendingFileUpload(
+        String email,
+        String fileDir,
+        String fileName,
+        String originFileName,
+        String contentType
+) {
+}
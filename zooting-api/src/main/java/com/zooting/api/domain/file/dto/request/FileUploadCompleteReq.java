@@ -0,0 +1,13 @@
+package com.zooting.api.domain.file.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "presigned 업로드 완료 요청 Dto")
+public record FileUploadCompleteReq(
+        @Schema(description = "업로드를 마친 파일 아이디 목록")
+        List<UUID> S3Ids
+) {
+}
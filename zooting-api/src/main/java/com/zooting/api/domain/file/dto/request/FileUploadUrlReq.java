@@ -0,0 +1,12 @@
+package com.zooting.api.domain.file.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "presigned 업로드 URL 발급 요청 Dto")
+public record FileUploadUrlReq(
+        @Schema(description = "원본 파일 이름")
+        String originFileName,
+        @Schema(description = "파일 Content-Type")
+        String contentType
+) {
+}
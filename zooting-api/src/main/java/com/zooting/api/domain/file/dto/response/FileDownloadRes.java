@@ -0,0 +1,18 @@
+package com.zooting.api.domain.file.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "파일 다운로드 시 저장소 메타데이터 Dto")
+public record FileDownloadRes(
+        @Schema(description = "저장소 파일 키")
+        String fileKey,
+        @Schema(description = "원본 파일 이름")
+        String originFileName,
+        @Schema(description = "파일 크기")
+        long contentLength,
+        @Schema(description = "ETag")
+        String eTag,
+        @Schema(description = "마지막 수정 시각 (epoch millis)")
+        long lastModified
+) {
+}
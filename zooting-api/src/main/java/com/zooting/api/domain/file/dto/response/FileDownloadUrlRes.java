@@ -0,0 +1,12 @@
+package com.zooting.api.domain.file.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "presigned 다운로드 URL 응답 Dto")
+public record FileDownloadUrlRes(
+        @Schema(description = "GET 요청을 보낼 URL")
+        String downloadUrl,
+        @Schema(description = "URL 만료 시각 (epoch millis)")
+        long expiresAt
+) {
+}
@@ -2,6 +2,7 @@ package com.zooting.api.domain.file.dto.response;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.util.Map;
 import java.util.UUID;
 
 @Schema(description = "파일 업로드 시 응답 Dto")
@@ -17,6 +18,8 @@ public record FileRes(
         @Schema(description = "폴더 경로")
         String fileDir,
         @Schema(description = "썸네일 경로")
-        String thumbnailUrl
+        String thumbnailUrl,
+        @Schema(description = "크기 별 썸네일 경로 (크기 이름 -> 경로)")
+        Map<String, String> thumbnailUrls
 ) {
 }
@@ -0,0 +1,19 @@
+package com.zooting.api.domain.file.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Schema(description = "presigned 업로드 URL 발급 응답 Dto")
+public record FileUploadUrlRes(
+        @Schema(description = "파일 아이디")
+        UUID S3Id,
+        @Schema(description = "PUT 요청을 보낼 URL")
+        String uploadUrl,
+        @Schema(description = "PUT 요청에 그대로 포함해야 하는 헤더")
+        Map<String, String> headers,
+        @Schema(description = "URL 만료 시각 (epoch millis)")
+        long expiresAt
+) {
+}
@@ -29,15 +29,22 @@ public class File extends BaseEntity {
     private String imgUrl; // 파일 링크
     private String fileDir; // S3 파일 경로
     private String thumbnailUrl; // 썸네일 파일 링크
+    @Column(length = 2000)
+    private String thumbnailUrls; // 크기 별 썸네일 링크 (JSON)
+    private String uploader; // 업로드한 유저 email
+    private Boolean attached; // DM 에 첨부되었는지, 첨부되지 않은 채 남은 파일은 정리 대상 (이전 행은 null)
 
     @Builder
-    public File(UUID s3ID, DM dm, String fileName, String imgUrl, String fileDir, String thumbnailUrl, String originFileName) {
+    public File(UUID s3ID, DM dm, String fileName, String imgUrl, String fileDir, String thumbnailUrl, String thumbnailUrls, String originFileName, String uploader, Boolean attached) {
         this.s3Id = s3ID;
         this.dm = dm;
         this.fileName = fileName;
         this.imgUrl = imgUrl;
         this.fileDir = fileDir;
         this.thumbnailUrl = thumbnailUrl;
+        this.thumbnailUrls = thumbnailUrls;
         this.originFileName = originFileName;
+        this.uploader = uploader;
+        this.attached = attached;
     }
 }
@@ -0,0 +1,44 @@
+package com.zooting.api.domain.file.entity;
+
+import com.zooting.api.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 저장소에 실제로 올라간 파일 내용(SHA-256) 색인.
+ * 같은 내용의 파일은 기존 저장소 파일과 썸네일을 재사용하고, refCount 가 0 이 되면 저장소에서 삭제한다.
+ * refCount 는 이 폴더를 가리키는 file 행 수이며, file 행을 저장/삭제할 때만 늘리고 줄인다.
+ * 동시에 같은 내용이 처음 업로드되면 행이 여러 개 생길 수 있으며, 재사용은 가장 먼저 생긴 행을 사용한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "file_content", indexes = @Index(name = "idx_file_content_hash", columnList = "content_hash"))
+public class FileContent extends BaseEntity {
+    @Id
+    @Column(name = "file_content_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+    @Column(nullable = false, unique = true)
+    private String fileDir; // 저장소 폴더 경로
+    @Column(length = 1000)
+    private String fileName; // 저장소 파일명
+    private String imgUrl;
+    private String thumbnailUrl;
+    @Column(length = 2000)
+    private String thumbnailUrls; // 크기 별 썸네일 링크 (JSON)
+    private Integer refCount;
+
+    @Builder
+    public FileContent(String contentHash, String fileDir, String fileName, String imgUrl, String thumbnailUrl, String thumbnailUrls) {
+        this.contentHash = contentHash;
+        this.fileDir = fileDir;
+        this.fileName = fileName;
+        this.imgUrl = imgUrl;
+        this.thumbnailUrl = thumbnailUrl;
+        this.thumbnailUrls = thumbnailUrls;
+        this.refCount = 1;
+    }
+}
@@ -0,0 +1,287 @@
+package com.zooting.api.domain.file.util;
+
+import com.zooting.api.domain.file.dao.FileRepository;
+import com.zooting.api.domain.file.entity.File;
+import com.zooting.api.global.common.code.ErrorCode;
+import com.zooting.api.global.exception.BaseExceptionHandler;
+import com.zooting.api.global.storage.FileStorage;
+import lombok.extern.log4j.Log4j2;
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 요청한 너비/품질의 이미지 변환본을 처음 요청될 때 만들어 로컬 디스크에 캐시한다.
+ * 너비와 품질은 정해진 단계로 맞춰 변환본 종류를 제한하고, 캐시는 전체 크기 기준 LRU 로 오래된 변환본부터 지운다.
+ * 같은 변환본을 동시에 요청하면 한 요청만 원본을 내려받아 변환하고 나머지는 그 결과를 기다린다.
+ */
+@Log4j2
+@Component
+public class ImageResizer {
+    private static final int MIN_QUALITY = 30;
+    private static final int MAX_QUALITY = 95;
+    private final FileStorage fileStorage;
+    private final FileRepository fileRepository;
+    private final Path cacheDir;
+    private final long maxBytes;
+    private final int[] widths;
+    private final int defaultQuality;
+    // 변환본 key -> 파일 크기, 접근 순서
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+    private long totalBytes;
+
+    public ImageResizer(FileStorage fileStorage,
+                        FileRepository fileRepository,
+                        @Value("${file.image.cache-dir:./image-cache}") String cacheDir,
+                        @Value("${file.image.cache-max-bytes:1073741824}") long maxBytes,
+                        @Value("${file.image.widths:160,320,640,960,1280,1920}") String widths,
+                        @Value("${file.image.default-quality:80}") int defaultQuality) throws IOException {
+        this.fileStorage = fileStorage;
+        this.fileRepository = fileRepository;
+        this.cacheDir = Paths.get(cacheDir).toAbsolutePath().normalize();
+        this.maxBytes = maxBytes;
+        this.widths = Arrays.stream(widths.split(",")).map(String::trim).mapToInt(Integer::parseInt).sorted().toArray();
+        this.defaultQuality = defaultQuality;
+        loadEntries();
+    }
+
+    /**
+     * 변환본을 열어 반환한다. 캐시에 없으면 원본에서 만든다
+     */
+    public ImageVariant open(UUID s3Id, int width, Integer quality) throws IOException {
+        int snappedWidth = snapWidth(width);
+        int snappedQuality = snapQuality(quality);
+        String key = variantKey(s3Id, snappedWidth, snappedQuality);
+        // 조회 직후 LRU 에서 밀려 삭제된 경우 한 번 더 만든다
+        for (int attempt = 0; ; attempt++) {
+            Path file = getOrCreate(key, s3Id, snappedWidth, snappedQuality);
+            try {
+                FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+                return new ImageVariant(channel, channel.size(),
+                        file.getFileName().toString().endsWith(".jpg") ? "image/jpeg" : "image/png");
+            } catch (NoSuchFileException e) {
+                remove(key);
+                if (attempt > 0) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 변환본 내용은 key(파일 아이디, 너비, 품질)로 정해지므로 key 로 강한 ETag 를 만든다
+     */
+    public String eTag(UUID s3Id, int width, Integer quality) {
+        return eTag(variantKey(s3Id, snapWidth(width), snapQuality(quality)));
+    }
+
+    /**
+     * 파일 삭제 시 해당 파일의 변환본을 모두 지운다
+     */
+    public void evict(UUID s3Id) {
+        String prefix = s3Id + "_";
+        synchronized (this) {
+            Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, Long> entry = iterator.next();
+                if (entry.getKey().startsWith(prefix)) {
+                    iterator.remove();
+                    totalBytes -= entry.getValue();
+                    delete(entry.getKey());
+                }
+            }
+        }
+    }
+
+    private Path getOrCreate(String key, UUID s3Id, int width, int quality) throws IOException {
+        Path cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+        CompletableFuture<Path> created = new CompletableFuture<>();
+        CompletableFuture<Path> running = inFlight.putIfAbsent(key, created);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IOException(e.getCause());
+            }
+        }
+        try {
+            // 대기 등록 전에 다른 요청이 만들어 두었을 수 있다
+            Path file = get(key);
+            if (file == null) {
+                file = create(key, s3Id, width, quality);
+            }
+            created.complete(file);
+            return file;
+        } catch (IOException | RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    private Path create(String key, UUID s3Id, int width, int quality) throws IOException {
+        File file = fileRepository.findByS3Id(s3Id).orElseThrow(() ->
+                new BaseExceptionHandler(ErrorCode.NOT_FOUND_S3FILE));
+        BufferedImage image;
+        try (InputStream objectInputStream = fileStorage.openStream(file.getFileDir() + file.getFileName())) {
+            image = ImageIO.read(objectInputStream);
+        }
+        if (image == null) {
+            throw new BaseExceptionHandler(ErrorCode.NOT_IMAGE_FILE);
+        }
+        // 투명도가 없는 이미지만 JPEG 으로 변환하고 품질을 적용한다
+        boolean jpeg = !image.getColorModel().hasAlpha();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Thumbnails.Builder<BufferedImage> builder = Thumbnails.of(image)
+                .outputFormat(jpeg ? "jpg" : "png");
+        // 원본보다 크게 늘리지 않는다
+        if (image.getWidth() > width) {
+            builder.width(width);
+        } else {
+            builder.scale(1.0);
+        }
+        if (jpeg) {
+            builder.outputQuality(quality / 100.0);
+        }
+        builder.toOutputStream(outputStream);
+        return put(key + (jpeg ? ".jpg" : ".png"), outputStream.toByteArray());
+    }
+
+    private synchronized Path get(String key) {
+        if (!entries.containsKey(key)) {
+            return null;
+        }
+        Path jpg = cacheDir.resolve(key + ".jpg");
+        return Files.exists(jpg) ? jpg : cacheDir.resolve(key + ".png");
+    }
+
+    private Path put(String fileName, byte[] data) throws IOException {
+        Path file = cacheDir.resolve(fileName);
+        Path tmp = cacheDir.resolve(fileName + ".tmp");
+        Files.createDirectories(cacheDir);
+        Files.write(tmp, data);
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        synchronized (this) {
+            Long previous = entries.put(keyOf(fileName), (long) data.length);
+            totalBytes += data.length - (previous != null ? previous : 0);
+            evict();
+        }
+        return file;
+    }
+
+    private synchronized void remove(String key) {
+        Long size = entries.remove(key);
+        if (size != null) {
+            totalBytes -= size;
+        }
+    }
+
+    // 방금 넣은 변환본은 남기고 가장 오래 사용되지 않은 변환본부터 삭제
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && entries.size() > 1 && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            iterator.remove();
+            totalBytes -= eldest.getValue();
+            delete(eldest.getKey());
+        }
+    }
+
+    private void delete(String key) {
+        try {
+            Files.deleteIfExists(cacheDir.resolve(key + ".jpg"));
+            Files.deleteIfExists(cacheDir.resolve(key + ".png"));
+        } catch (IOException e) {
+            log.warn("이미지 캐시 삭제 실패: {}", key, e);
+        }
+    }
+
+    // 재시작 시 디스크의 변환본을 수정 시각 순서로 다시 등록, 쓰다 만 임시 파일은 지운다
+    private void loadEntries() throws IOException {
+        if (!Files.isDirectory(cacheDir)) {
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> paths = Files.list(cacheDir)) {
+            files = paths.filter(Files::isRegularFile).toList();
+        }
+        Map<Path, FileTime> modifiedTimes = new LinkedHashMap<>();
+        for (Path file : files) {
+            if (file.getFileName().toString().endsWith(".tmp")) {
+                Files.deleteIfExists(file);
+                continue;
+            }
+            modifiedTimes.put(file, Files.getLastModifiedTime(file));
+        }
+        List<Path> sorted = modifiedTimes.keySet().stream().sorted(Comparator.comparing(modifiedTimes::get)).toList();
+        synchronized (this) {
+            for (Path file : sorted) {
+                long size = Files.size(file);
+                entries.put(keyOf(file.getFileName().toString()), size);
+                totalBytes += size;
+            }
+            evict();
+        }
+    }
+
+    // 요청 너비 이상인 가장 작은 단계, 없으면 가장 큰 단계
+    private int snapWidth(int width) {
+        for (int step : widths) {
+            if (step >= width) {
+                return step;
+            }
+        }
+        return widths[widths.length - 1];
+    }
+
+    // 5 단위로 맞춘다
+    private int snapQuality(Integer quality) {
+        int value = quality != null ? quality : defaultQuality;
+        return Math.max(MIN_QUALITY, Math.min(MAX_QUALITY, Math.round(value / 5f) * 5));
+    }
+
+    private static String variantKey(UUID s3Id, int width, int quality) {
+        return s3Id + "_w" + width + "_q" + quality;
+    }
+
+    private static String keyOf(String fileName) {
+        return fileName.substring(0, fileName.lastIndexOf('.'));
+    }
+
+    private static String eTag(String key) {
+        return "\"" + key + "\"";
+    }
+}
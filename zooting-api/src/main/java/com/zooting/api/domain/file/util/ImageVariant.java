@@ -0,0 +1,13 @@
+package com.zooting.api.domain.file.util;
+
+import java.nio.channels.FileChannel;
+
+/**
+ * 디스크 캐시에 저장된 이미지 변환본. channel 은 호출하는 쪽에서 닫아야 한다
+ */
+public record ImageVariant(
+        FileChannel channel,
+        long size,
+        String contentType
+) {
+}
@@ -1,119 +1,237 @@
 package com.zooting.api.domain.file.util;
 
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.*;
-import com.amazonaws.util.IOUtils;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import com.zooting.api.domain.file.dao.FileContentRepository;
 import com.zooting.api.domain.file.dao.FileRepository;
 import com.zooting.api.domain.file.dto.response.FileRes;
+import com.zooting.api.domain.file.entity.File;
+import com.zooting.api.domain.file.entity.FileContent;
+import com.zooting.api.global.common.code.ErrorCode;
+import com.zooting.api.global.exception.BaseExceptionHandler;
+import com.zooting.api.global.storage.FileStorage;
+import com.zooting.api.global.storage.PresignedUrl;
+import com.zooting.api.global.storage.StorageObject;
+import com.zooting.api.global.storage.StorageUpload;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import net.coobird.thumbnailator.Thumbnails;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+/**
+ * 첨부파일 업로드/삭제/다운로드. 실제 저장은 storage.type 에 따른 FileStorage 구현(S3, 로컬 디스크)이 담당
+ */
 @Log4j2
 @Component
 @RequiredArgsConstructor
 public class S3Util {
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
-    private final AmazonS3 amazonS3;
+    private static final Type THUMBNAIL_URLS_TYPE = new TypeToken<LinkedHashMap<String, String>>() {}.getType();
+    private final FileStorage fileStorage;
+    private final ThumbnailGenerator thumbnailGenerator;
+    private final FileContentRepository fileContentRepository;
+    private final FileRepository fileRepository;
+    private final Gson gson;
 
     // 파일 업로드
-    @Transactional
-    public List<FileRes> uploadFiles(List<MultipartFile> multipartFiles) throws IOException {
+    // 파일 내용의 SHA-256 으로 이미 저장된 파일을 찾아 재사용하고, 처음 보는 내용만 업로드한다
+    // 파일 별 업로드를 모두 시작한 뒤 한꺼번에 완료를 기다린다. 크기가 큰 파일은 저장소 구현이 multipart 로 병렬 업로드
+    // 업로드한 파일은 DM 연결 전 file 행(uploader, attached=false)으로 등록하고, 저장소 참조 수는 이 행이 가진다
+    @Transactional(rollbackFor = Exception.class)
+    public List<FileRes> uploadFiles(List<MultipartFile> multipartFiles, String email) throws IOException {
         if (multipartFiles == null || multipartFiles.isEmpty()) {
             return null;
         }
         List<FileRes> s3FileList = new ArrayList<>();
-        for (MultipartFile multipartFile : multipartFiles) {
-            String originFileName = multipartFile.getOriginalFilename(); // 원본 파일명
-            String folderKey = UUID.randomUUID() + "/"; // 폴더 주소
-            UUID randomId = UUID.randomUUID();
-            String fileName = randomId + "_" + originFileName; // 변환된 파일명
-
-            ObjectMetadata objectMetadata = new ObjectMetadata();
-            objectMetadata.setContentLength(multipartFile.getSize());
-            objectMetadata.setContentType(multipartFile.getContentType());
-
-            if (!amazonS3.doesObjectExist(bucket, folderKey)) {
-                amazonS3.putObject(bucket, folderKey, "");
+        List<StorageUpload> uploads = new ArrayList<>();
+        List<Integer> uploadedIndexes = new ArrayList<>();
+        List<UUID> reusedS3Ids = new ArrayList<>();
+        try {
+            for (MultipartFile multipartFile : multipartFiles) {
+                String originFileName = multipartFile.getOriginalFilename(); // 원본 파일명
+                UUID randomId = UUID.randomUUID();
+                String contentHash = hash(multipartFile);
+                FileContent fileContent = findReusableContent(contentHash);
+                if (fileContent != null) {
+                    // 같은 내용이면 저장소 파일과 썸네일을 그대로 사용, 원본 파일명만 새로 받은 이름
+                    s3FileList.add(new FileRes(
+                            randomId,
+                            originFileName,
+                            fileContent.getFileName(),
+                            fileContent.getImgUrl(),
+                            fileContent.getFileDir(),
+                            fileContent.getThumbnailUrl(),
+                            fileContent.getThumbnailUrls() != null
+                                    ? gson.fromJson(fileContent.getThumbnailUrls(), THUMBNAIL_URLS_TYPE)
+                                    : null
+                    ));
+                    reusedS3Ids.add(randomId);
+                    continue;
+                }
+                // UUID 폴더는 매번 새로 만들어지므로 존재 여부 확인, 폴더 객체 생성 없이 바로 업로드
+                String folderKey = UUID.randomUUID() + "/"; // 폴더 주소
+                String fileName = randomId + "_" + originFileName; // 변환된 파일명
+
+                uploads.add(fileStorage.upload(folderKey + fileName, multipartFile));
+                FileRes fileRes = toFileRes(randomId, originFileName, folderKey, fileName, multipartFile.getContentType());
+                fileContentRepository.save(FileContent.builder()
+                        .contentHash(contentHash)
+                        .fileDir(folderKey)
+                        .fileName(fileName)
+                        .imgUrl(fileRes.imgUrl())
+                        .thumbnailUrl(fileRes.thumbnailUrl())
+                        .thumbnailUrls(fileRes.thumbnailUrls() != null ? gson.toJson(fileRes.thumbnailUrls()) : null)
+                        .build());
+                uploadedIndexes.add(s3FileList.size());
+                s3FileList.add(fileRes);
             }
-
-            String objectKey = folderKey + fileName;
-            amazonS3.putObject(new PutObjectRequest(bucket, objectKey, multipartFile.getInputStream(), objectMetadata)
-                    .withCannedAcl(CannedAccessControlList.PublicRead));
-            //이미지일 경우 썸네일 설정
-            String thumbnailUrl = null;
-            if (multipartFile.getContentType().contains("image")) {
-                thumbnailUrl = uploadThumbnail(multipartFile, folderKey, fileName);
+            for (StorageUpload upload : uploads) {
+                upload.waitForCompletion();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            uploads.forEach(StorageUpload::abort);
+            throw new BaseExceptionHandler(ErrorCode.FAILED_TO_UPLOAD_S3_FILE);
+        } catch (IOException | RuntimeException e) {
+            uploads.forEach(StorageUpload::abort);
+            throw e;
+        }
+        for (FileRes fileRes : s3FileList) {
+            fileRepository.save(File.builder()
+                    .s3ID(fileRes.S3Id())
+                    .fileName(fileRes.fileName())
+                    .imgUrl(fileRes.imgUrl())
+                    .fileDir(fileRes.fileDir())
+                    .thumbnailUrl(fileRes.thumbnailUrl())
+                    .thumbnailUrls(fileRes.thumbnailUrls() != null ? gson.toJson(fileRes.thumbnailUrls()) : null)
+                    .originFileName(fileRes.originFileName())
+                    .uploader(email)
+                    .attached(false)
+                    .build());
+        }
+        // 행이 커밋되기 전에 생성이 끝나면 결과가 반영되지 않으므로 커밋 이후 시작하고,
+        // 재사용한 내용의 썸네일이 그 사이 완료되었으면 file_content 의 결과를 복사한다
+        Runnable generate = () -> {
+            for (int i : uploadedIndexes) {
+                generateThumbnails(s3FileList.get(i), multipartFiles.get(i).getContentType());
+            }
+            if (!reusedS3Ids.isEmpty()) {
+                fileRepository.applyContentThumbnails(reusedS3Ids);
             }
-            String fileUrl = amazonS3.getUrl(bucket, objectKey).toString();
-            s3FileList.add(new FileRes(
-                    randomId,
-                    originFileName,
-                    fileName,
-                    fileUrl,
-                    folderKey,
-                    thumbnailUrl
-            ));
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    generate.run();
+                }
+            });
+        } else {
+            generate.run();
         }
         return s3FileList;
     }
 
-    @Transactional
-    public void remove(String folderKey) {
-        List<S3ObjectSummary> objectSummaries = amazonS3.listObjects(bucket, folderKey).getObjectSummaries();
+    /**
+     * 저장된(저장될) 파일의 응답 생성. 이미지일 경우 썸네일 설정, 썸네일은 원본 업로드 후 백그라운드에서 생성
+     */
+    public FileRes toFileRes(UUID s3Id, String originFileName, String folderKey, String fileName, String contentType) {
+        Map<String, String> thumbnailUrls = null;
+        if (isImage(contentType)) {
+            thumbnailUrls = thumbnailGenerator.getThumbnailUrls(folderKey, fileName);
+        }
+        return new FileRes(
+                s3Id,
+                originFileName,
+                fileName,
+                fileStorage.getUrl(folderKey + fileName),
+                folderKey,
+                thumbnailUrls != null ? thumbnailUrls.values().iterator().next() : null,
+                thumbnailUrls
+        );
+    }
 
-        // 내부 오브젝트 삭제
-        for (S3ObjectSummary summary : objectSummaries) {
-            amazonS3.deleteObject(new DeleteObjectRequest(bucket, summary.getKey()));
+    public void generateThumbnails(FileRes fileRes, String contentType) {
+        if (isImage(contentType)) {
+            thumbnailGenerator.generate(fileRes.S3Id(), fileRes.fileDir(), fileRes.fileName(), contentType);
         }
+    }
+
+    /**
+     * 클라이언트가 저장소에 직접 PUT 할 수 있는 URL 발급, 파일 내용은 API 서버를 거치지 않는다
+     */
+    public PresignedUrl presignUpload(String fileKey, String contentType, Duration expiration) {
+        return fileStorage.presignUpload(fileKey, contentType, expiration);
+    }
 
-        // 폴더 삭제
-        amazonS3.deleteObject(bucket, folderKey);
+    public PresignedUrl presignDownload(String fileKey, String originFileName, Duration expiration) {
+        return fileStorage.presignDownload(fileKey, originFileName, expiration);
     }
 
+    /**
+     * 같은 내용을 참조하는 파일이 남아 있으면 참조 수만 줄이고, 마지막 참조일 때 폴더 아래 원본, 썸네일을 batch 삭제
+     */
     @Transactional
-    public String uploadThumbnail(MultipartFile multipartFile, String folderKey, String fileName) throws IOException {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        String thumbnailKey = folderKey + "thumbnail_" + fileName;
-        //re-size
-        Thumbnails.of(multipartFile.getInputStream())
-                .size(100, 100)
-                .toOutputStream(outputStream);
-        //re-size된 파일 byte[] 로 변환
-        byte[] thumbnailBytes = outputStream.toByteArray();
-        ByteArrayInputStream thumbnailInputStream = new ByteArrayInputStream(thumbnailBytes);
-        ObjectMetadata thumbnailObjectMetadata = new ObjectMetadata();
-        thumbnailObjectMetadata.setContentLength(thumbnailBytes.length);
-        thumbnailObjectMetadata.setContentType(multipartFile.getContentType());
-        //업로드
-        amazonS3.putObject(new PutObjectRequest(bucket, thumbnailKey, thumbnailInputStream, thumbnailObjectMetadata)
-                .withCannedAcl(CannedAccessControlList.PublicRead));
-        return amazonS3.getUrl(bucket, thumbnailKey).toString();
+    public void remove(String folderKey) {
+        if (fileContentRepository.decrementRefCount(folderKey) > 0
+                && fileContentRepository.deleteUnreferenced(folderKey) == 0) {
+            return;
+        }
+        fileStorage.removeAll(folderKey);
     }
 
-    public byte[] downloadFile(String fileKey) throws IOException {
-        // bucket 와 fileDir 을 사용해서 S3 에 있는 객체 - object - 를 가져온다.
-        S3Object object = amazonS3.getObject(new GetObjectRequest(bucket, fileKey));
+    private FileContent findReusableContent(String contentHash) {
+        return fileContentRepository.findFirstByContentHashOrderByIdAsc(contentHash)
+                .filter(fileContent -> fileContentRepository.incrementRefCount(fileContent.getId()) > 0)
+                .orElse(null);
+    }
 
-        // object 를 S3ObjectInputStream 형태로 변환한다.
-        S3ObjectInputStream objectInputStream = object.getObjectContent();
+    // 요청 처리 중 이미 임시 저장된 multipart 내용을 한 번 읽으며 해시를 계산한다.
+    // 같은 내용이면 저장소 업로드 자체를 건너뛰어야 하므로 업로드 스트림에서 함께 계산하지 않고 업로드 전에 먼저 읽는다.
+    // multipart 는 이미 서버 메모리/임시 파일에 있으므로 추가 비용은 로컬 읽기 한 번이다
+    private String hash(MultipartFile multipartFile) throws IOException {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream inputStream = new DigestInputStream(multipartFile.getInputStream(), messageDigest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
 
-        // 이후 다시 byte 배열 형태로 변환한다.
-        // 아마도 파일 전송을 위해서는 다시 byte[] 즉, binary 로 변환해서 전달해야햐기 때문
+    private boolean isImage(String contentType) {
+        return contentType != null && contentType.contains("image");
+    }
 
-        return IOUtils.toByteArray(objectInputStream);
+    public StorageObject getObject(String fileKey) {
+        return fileStorage.getObject(fileKey);
     }
 
+    /**
+     * 저장된 파일을 outputStream 으로 흘려보낸다. 파일 전체를 메모리에 올리지 않고 고정 크기 버퍼로 복사
+     * start, end 가 있으면 해당 byte 범위(양 끝 포함)만 조회
+     */
+    public void writeFile(String fileKey, Long start, Long end, OutputStream outputStream) throws IOException {
+        fileStorage.write(fileKey, start, end, outputStream);
+    }
 }
@@ -0,0 +1,132 @@
+package com.zooting.api.domain.file.util;
+
+import com.google.gson.Gson;
+import com.zooting.api.domain.file.dao.FileContentRepository;
+import com.zooting.api.domain.file.dao.FileRepository;
+import com.zooting.api.global.storage.FileStorage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드된 이미지의 썸네일을 백그라운드에서 생성한다.
+ * 원본을 저장소에서 한 번만 디코딩하여 설정된 모든 크기(채팅 미리보기, 마스크/배경 상점 카드 등)를 만들고,
+ * 완료되면 file 과 file_content 의 썸네일 URL 을 갱신한다. 썸네일 URL 은 키 규칙으로 정해지므로 업로드 응답에서 미리 내려준다.
+ * file 은 폴더 기준으로 갱신하므로 같은 내용을 재사용한 행에도 반영된다.
+ */
+@Log4j2
+@Component
+public class ThumbnailGenerator {
+    private final FileStorage fileStorage;
+    private final FileRepository fileRepository;
+    private final FileContentRepository fileContentRepository;
+    private final Gson gson;
+    private final Map<String, int[]> sizes;
+    private final ExecutorService executor;
+
+    public ThumbnailGenerator(FileStorage fileStorage,
+                              FileRepository fileRepository,
+                              FileContentRepository fileContentRepository,
+                              Gson gson,
+                              @Value("${file.thumbnail.sizes:preview=100x100,mask=300x300,card=600x600}") String sizes,
+                              @Value("${file.thumbnail.threads:2}") int threads,
+                              @Value("${file.thumbnail.queue-size:1000}") int queueSize) {
+        this.fileStorage = fileStorage;
+        this.fileRepository = fileRepository;
+        this.fileContentRepository = fileContentRepository;
+        this.gson = gson;
+        this.sizes = parseSizes(sizes);
+        // 대기열이 가득 차면 요청 스레드에서 직접 생성하여 썸네일이 유실되지 않도록 한다
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 크기 이름 -> 썸네일 URL, 첫 번째 크기가 대표 썸네일(thumbnailUrl)
+     */
+    public Map<String, String> getThumbnailUrls(String folderKey, String fileName) {
+        Map<String, String> thumbnailUrls = new LinkedHashMap<>();
+        for (String name : sizes.keySet()) {
+            thumbnailUrls.put(name, fileStorage.getUrl(thumbnailKey(folderKey, name, fileName)));
+        }
+        return thumbnailUrls;
+    }
+
+    public void generate(UUID s3Id, String folderKey, String fileName, String contentType) {
+        executor.execute(() -> createThumbnails(s3Id, folderKey, fileName, contentType));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void createThumbnails(UUID s3Id, String folderKey, String fileName, String contentType) {
+        try {
+            BufferedImage image;
+            try (InputStream objectInputStream = fileStorage.openStream(folderKey + fileName)) {
+                image = ImageIO.read(objectInputStream);
+            }
+            if (image == null) {
+                throw new IOException("이미지를 읽을 수 없습니다: " + contentType);
+            }
+            String format = outputFormat(contentType);
+            for (Map.Entry<String, int[]> size : sizes.entrySet()) {
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                Thumbnails.of(image)
+                        .size(size.getValue()[0], size.getValue()[1])
+                        .outputFormat(format)
+                        .toOutputStream(outputStream);
+                fileStorage.put(thumbnailKey(folderKey, size.getKey(), fileName), outputStream.toByteArray(),
+                        format.equals("jpg") ? "image/jpeg" : "image/" + format, true);
+            }
+            Map<String, String> thumbnailUrls = getThumbnailUrls(folderKey, fileName);
+            fileRepository.updateThumbnailUrls(folderKey, thumbnailUrls.values().iterator().next(), gson.toJson(thumbnailUrls));
+            fileContentRepository.updateThumbnailUrls(folderKey, thumbnailUrls.values().iterator().next(), gson.toJson(thumbnailUrls));
+        } catch (IOException | RuntimeException e) {
+            // 썸네일을 만들 수 없는 파일은 URL 을 비워 클라이언트가 원본을 사용하게 한다
+            log.warn("썸네일 생성 실패: s3Id={}", s3Id, e);
+            fileRepository.updateThumbnailUrls(folderKey, null, null);
+            fileContentRepository.updateThumbnailUrls(folderKey, null, null);
+        }
+    }
+
+    private String thumbnailKey(String folderKey, String name, String fileName) {
+        return folderKey + "thumbnail_" + name + "_" + fileName;
+    }
+
+    private String outputFormat(String contentType) {
+        return switch (contentType) {
+            case "image/jpeg", "image/jpg" -> "jpg";
+            case "image/gif" -> "gif";
+            case "image/bmp" -> "bmp";
+            default -> "png";
+        };
+    }
+
+    private static Map<String, int[]> parseSizes(String sizes) {
+        Map<String, int[]> parsed = new LinkedHashMap<>();
+        for (String size : sizes.split(",")) {
+            String[] nameAndSize = size.trim().split("=");
+            String[] widthAndHeight = nameAndSize[1].split("x");
+            parsed.put(nameAndSize[0], new int[]{Integer.parseInt(widthAndHeight[0]), Integer.parseInt(widthAndHeight[1])});
+        }
+        return Collections.unmodifiableMap(parsed);
+    }
+}
@@ -5,15 +5,20 @@ import com.zooting.api.domain.friend.dto.response.FriendRes;
 import com.zooting.api.domain.friend.dto.response.FriendSearchPageRes;
 import com.zooting.api.domain.friend.dto.response.FriendSearchRes;
 import com.zooting.api.domain.friend.entity.Friend;
+import com.zooting.api.domain.member.application.NicknameSearchIndex;
+import com.zooting.api.domain.member.util.NicknameIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 import javax.swing.text.html.Option;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Log4j2
 @Service
@@ -21,6 +26,7 @@ import java.util.Optional;
 public class FriendServiceImpl implements FriendService {
 
     private final FriendRepository friendRepository;
+    private final NicknameSearchIndex nicknameSearchIndex;
 
     @Override
     public List<FriendRes> getFriends(String follower) {
@@ -38,6 +44,17 @@ public class FriendServiceImpl implements FriendService {
     }
 
     public FriendSearchPageRes searchFriend(Pageable pageable, String nickname, String loginEmail) {
+        if (StringUtils.hasText(nickname)) {
+            // 친구 목록으로 닉네임 색인 결과를 거른다
+            Set<String> friendEmails = new HashSet<>(friendRepository.findFollowingEmails(loginEmail));
+            NicknameIndex.SearchResult result = nicknameSearchIndex.search(
+                    nickname, friendEmails::contains, pageable.getOffset(), pageable.getPageSize());
+            List<FriendSearchRes> friendInfoContent = result.entries().stream()
+                    .map(entry -> new FriendSearchRes(entry.nickname(), entry.gender()))
+                    .toList();
+            return new FriendSearchPageRes(friendInfoContent, pageable.getPageNumber(),
+                    (result.total() + pageable.getPageSize() - 1) / pageable.getPageSize());
+        }
         //search friend contating nickname
         Page<Friend> friendInfo = friendRepository.findFriendsByFollower_EmailAndFollowing_NicknameContaining(pageable, loginEmail, nickname);
         List<FriendSearchRes> friendInfoContent = friendInfo.getContent().stream().map(info -> new FriendSearchRes(info.getFollowing().getNickname(), info.getFollowing().getGender())).toList();
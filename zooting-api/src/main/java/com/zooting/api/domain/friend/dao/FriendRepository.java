@@ -22,6 +22,9 @@ public interface FriendRepository extends JpaRepository<Friend, Long> {
 
     int countByFollower_Email(String followerEmail);
 
+    @Query("SELECT fr.following.email FROM Friend fr WHERE fr.follower.email = :follower")
+    List<String> findFollowingEmails(@Param("follower") String follower);
+
     //searchFriend
     Page<Friend> findFriendsByFollower_EmailAndFollowing_NicknameContaining(Pageable pageable, String followerEmail, String nickname);
 
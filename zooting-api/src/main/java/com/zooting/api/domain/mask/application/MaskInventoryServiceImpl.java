@@ -28,7 +28,8 @@ public class MaskInventoryServiceImpl implements MaskInventoryService{
                         myMask.getMask().getFile().getFileDir(),
                         myMask.getMask().getFile().getFileName(),
                         myMask.getMask().getFile().getImgUrl(),
-                        myMask.getMask().getFile().getThumbnailUrl()
+                        myMask.getMask().getFile().getThumbnailUrl(),
+                        myMask.getMask().getFile().getS3Id()
                 )).toList();
     }
 }
@@ -31,7 +31,8 @@ public class MaskServiceImpl implements MaskService{
                     mask.getFile().getFileDir(),
                     mask.getFile().getFileName(),
                     mask.getFile().getImgUrl(),
-                    mask.getFile().getThumbnailUrl())).toList();
+                    mask.getFile().getThumbnailUrl(),
+                    mask.getFile().getS3Id())).toList();
             return new MaskPageRes(maskResList, pageable.getPageNumber(), result.getTotalPages());
         }
         else {
@@ -44,7 +45,8 @@ public class MaskServiceImpl implements MaskService{
                     mask.getFile().getFileDir(),
                     mask.getFile().getFileName(),
                     mask.getFile().getImgUrl(),
-                    mask.getFile().getThumbnailUrl())).toList();
+                    mask.getFile().getThumbnailUrl(),
+                    mask.getFile().getS3Id())).toList();
             return new MaskPageRes(maskResList, pageable.getPageNumber(), result.getTotalPages());
         }
 
@@ -2,6 +2,8 @@ package com.zooting.api.domain.mask.dto.response;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.util.UUID;
+
 @Schema(description = "전체마스크 조회 시, 해금마스크 조회 시 응답 DTO")
 public record MaskRes(
         @Schema(description = "마스크 id")
@@ -19,6 +21,8 @@ public record MaskRes(
         @Schema(description = "이미지 url")
         String imgUrl,
         @Schema(description = "썸네일 url")
-        String thumbnailUrl
+        String thumbnailUrl,
+        @Schema(description = "이미지 파일 아이디 (크기 변환 조회용)")
+        UUID S3Id
 ) {
 }
@@ -10,6 +10,8 @@ import com.zooting.api.global.common.code.SuccessCode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
@@ -207,6 +209,22 @@ public class MemberController {
         );
     }
 
+    @Operation(
+            summary = "닉네임 자동완성",
+            description = "입력한 글자로 시작하는 닉네임을 나를 차단한 사람 제외하고 닉네임 순으로 반환"
+    )
+    @PreAuthorize("hasAnyRole('USER')")
+    @GetMapping("/autocomplete")
+    public ResponseEntity<BaseResponse<List<MemberSearchRes>>> autocompleteNickname(
+            @Valid @NotNull @RequestParam(name = "prefix") String prefix,
+            @Min(1) @Max(50) @RequestParam(name = "size", defaultValue = "10") int size,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return BaseResponse.success(
+                SuccessCode.SELECT_SUCCESS,
+                memberService.autocompleteNickname(userDetails.getUsername(), prefix, size)
+        );
+    }
+
     @Operation(summary = "성격 수정")
     @PreAuthorize("hasAnyRole('ANONYMOUS', 'USER')")
     @PatchMapping("/characters")
@@ -306,7 +324,8 @@ public class MemberController {
                     "나이 선택 o 시 - 해당 나이차 유저 추출" +
                     "나이 선택 x 시 - 전체 나이대 유저 추출" +
                     "관심사 일치하는 유저 순 정렬" +
-                    "이상형 일치하는 유저 순 정렬"
+                    "이상형 일치하는 유저 순 정렬" +
+                    "나이 차이가 적은 유저 순 정렬, 최대 member.recommendation.size 명"
     )
     @PreAuthorize("hasAnyRole('USER')")
     @GetMapping("/extract")
@@ -2,6 +2,7 @@ package com.zooting.api.domain.member.api;
 
 import com.zooting.api.domain.member.application.MemberHeartbeatService;
 import com.zooting.api.domain.member.dto.request.HeartBeatReq;
+import com.zooting.api.global.security.userdetails.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -9,9 +10,10 @@ import lombok.extern.log4j.Log4j2;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.Objects;
+import java.security.Principal;
 
 @Log4j2
 @RestController
@@ -21,14 +23,15 @@ public class MemberHeartbeatController {
     private final SimpMessageSendingOperations template;
     private final MemberHeartbeatService memberHeartbeatService;
 
+    /**
+     * 요청 값 대신 STOMP CONNECT 때 인증된 세션 유저(이메일, 닉네임)로 처리
+     */
     @Operation(summary = "Heartbeat 메시지 수신")
     @MessageMapping("/member/heartbeat")
-    public void memberHeartbeatCheck(HeartBeatReq request) {
-        if (Objects.isNull(request) || Objects.isNull(request.memberId())) {
-            return;
-        }
-        var heartcheck = memberHeartbeatService.loadOnlineFriends(request);
-        template.convertAndSend("/api/sub/" + request.memberId(), heartcheck);
+    public void memberHeartbeatCheck(Principal principal) {
+        CustomUserDetails userDetails = (CustomUserDetails) ((Authentication) principal).getPrincipal();
+        var heartcheck = memberHeartbeatService.loadOnlineFriends(new HeartBeatReq(userDetails.getEmail(), userDetails.getNickname()));
+        template.convertAndSend("/api/sub/" + userDetails.getEmail(), heartcheck);
     }
 
     //    @Scheduled(cron = "0 0/1 * * * ?")
@@ -0,0 +1,225 @@
+package com.zooting.api.domain.member.application;
+
+import com.zooting.api.domain.member.dao.CachedMemberProfile;
+import com.zooting.api.domain.member.dao.MemberProfileRedisDao;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 유저 프로필 조회 캐시. 서버 메모리(near) -> Redis -> DB 순으로 조회하고, 아래 계층에서 읽은 값은 위 계층에 채운다.
+ * 프로필을 바꾸는 작업은 evict 를 호출하며, 커밋 이후 Redis 값을 지우고 pub/sub 으로 다른 서버의 near 캐시도 비운다.
+ * near 캐시는 짧은 TTL 을 두어 놓친 무효화 메시지의 영향을 제한한다.
+ */
+@Log4j2
+@Component
+public class MemberProfileCache implements MessageListener {
+    public static final String PROFILE_CHANNEL = "profile-invalidate";
+
+    private final MemberProfileRedisDao memberProfileRedisDao;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListener;
+    private final long nearTtl;
+    // 이메일 -> 프로필, 접근 순서
+    private final LinkedHashMap<String, NearEntry> profiles;
+    // 닉네임 -> 이메일, 프로필의 닉네임과 다르면 무시한다
+    private final LinkedHashMap<String, String> emailByNickname;
+    // 무효화할 때마다 증가, DB 조회 중 무효화가 있었으면 조회한 값을 캐시에 넣지 않는다
+    private final AtomicLong invalidations = new AtomicLong();
+    private final LongAdder nearHits = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public MemberProfileCache(MemberProfileRedisDao memberProfileRedisDao,
+                              RedisTemplate<String, Object> redisTemplate,
+                              RedisMessageListenerContainer redisMessageListener,
+                              @Value("${member.profile-cache.near-ttl:30000}") long nearTtl,
+                              @Value("${member.profile-cache.near-size:10000}") int nearSize) {
+        this.memberProfileRedisDao = memberProfileRedisDao;
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListener = redisMessageListener;
+        this.nearTtl = nearTtl;
+        this.profiles = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, NearEntry> eldest) {
+                return size() > nearSize;
+            }
+        };
+        this.emailByNickname = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > nearSize;
+            }
+        };
+    }
+
+    @PostConstruct
+    public void start() {
+        redisMessageListener.addMessageListener(this, new ChannelTopic(PROFILE_CHANNEL));
+    }
+
+    @PreDestroy
+    public void stop() {
+        redisMessageListener.removeMessageListener(this, new ChannelTopic(PROFILE_CHANNEL));
+    }
+
+    /**
+     * 이메일로 프로필 조회. 캐시에 없으면 loader 로 DB 에서 읽어 채운다
+     */
+    public CachedMemberProfile getByEmail(String email, Supplier<CachedMemberProfile> loader) {
+        CachedMemberProfile profile = findCached(email);
+        if (Objects.nonNull(profile)) {
+            return profile;
+        }
+        misses.increment();
+        return load(loader);
+    }
+
+    /**
+     * 닉네임으로 프로필 조회. 캐시된 닉네임 -> 이메일 값이 바뀐 닉네임을 가리키면 DB 에서 다시 읽는다
+     */
+    public CachedMemberProfile getByNickname(String nickname, Supplier<CachedMemberProfile> loader) {
+        String email;
+        synchronized (this) {
+            email = emailByNickname.get(nickname);
+        }
+        if (Objects.isNull(email)) {
+            email = memberProfileRedisDao.findEmailByNickname(nickname);
+        }
+        if (Objects.nonNull(email)) {
+            CachedMemberProfile profile = findCached(email);
+            if (Objects.nonNull(profile) && nickname.equals(profile.nickname())) {
+                return profile;
+            }
+        }
+        misses.increment();
+        return load(loader);
+    }
+
+    /**
+     * 프로필이 바뀌는 작업에서 호출. 트랜잭션 안에서 호출되면 커밋된 이후에 지운다
+     */
+    public void evict(String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(email);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(email);
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String email = redisTemplate.getStringSerializer().deserialize(message.getBody());
+        if (Objects.nonNull(email)) {
+            removeNear(email);
+        }
+    }
+
+    /**
+     * 계층별 적중률을 로그로 남기고 집계를 초기화한다
+     */
+    @Scheduled(initialDelayString = "${member.profile-cache.stats-interval:60000}",
+            fixedDelayString = "${member.profile-cache.stats-interval:60000}")
+    public void logStats() {
+        long near = nearHits.sumThenReset();
+        long redis = redisHits.sumThenReset();
+        long miss = misses.sumThenReset();
+        long total = near + redis + miss;
+        if (total == 0) {
+            return;
+        }
+        int size;
+        synchronized (this) {
+            size = profiles.size();
+        }
+        log.info("프로필 캐시 조회 {}건: near {}% redis {}% db {}%, near 캐시 {}개",
+                total, percent(near, total), percent(redis, total), percent(miss, total), size);
+    }
+
+    private CachedMemberProfile findCached(String email) {
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            NearEntry entry = profiles.get(email);
+            if (Objects.nonNull(entry)) {
+                if (entry.expiresAt() > now) {
+                    nearHits.increment();
+                    return entry.profile();
+                }
+                profiles.remove(email);
+            }
+        }
+        long generation = invalidations.get();
+        CachedMemberProfile profile = memberProfileRedisDao.find(email);
+        if (Objects.isNull(profile)) {
+            return null;
+        }
+        redisHits.increment();
+        putNear(profile, generation);
+        return profile;
+    }
+
+    private CachedMemberProfile load(Supplier<CachedMemberProfile> loader) {
+        long generation = invalidations.get();
+        CachedMemberProfile profile = loader.get();
+        if (invalidations.get() == generation) {
+            memberProfileRedisDao.save(profile);
+            putNear(profile, generation);
+        }
+        return profile;
+    }
+
+    private synchronized void putNear(CachedMemberProfile profile, long generation) {
+        if (invalidations.get() != generation) {
+            return;
+        }
+        profiles.put(profile.email(), new NearEntry(profile, System.currentTimeMillis() + nearTtl));
+        if (Objects.nonNull(profile.nickname())) {
+            emailByNickname.put(profile.nickname(), profile.email());
+        }
+    }
+
+    private void invalidate(String email) {
+        removeNear(email);
+        try {
+            memberProfileRedisDao.delete(email);
+            redisTemplate.convertAndSend(PROFILE_CHANNEL, email);
+        } catch (RuntimeException e) {
+            log.error("프로필 캐시 무효화 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void removeNear(String email) {
+        invalidations.incrementAndGet();
+        profiles.remove(email);
+    }
+
+    private static long percent(long count, long total) {
+        return Math.round(count * 100.0 / total);
+    }
+
+    private record NearEntry(CachedMemberProfile profile, long expiresAt) {
+    }
+}
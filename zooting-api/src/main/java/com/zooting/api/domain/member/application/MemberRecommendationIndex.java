@@ -0,0 +1,163 @@
+package com.zooting.api.domain.member.application;
+
+import com.zooting.api.domain.member.dao.MemberRepository;
+import com.zooting.api.domain.member.dao.RecommendationRow;
+import com.zooting.api.domain.member.entity.Privilege;
+import com.zooting.api.domain.member.util.RecommendationIndex;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 유저 추천 색인을 관리한다. 역할이 USER 이고 닉네임, 생년월일, 추가 정보가 있는 유저만 추천 대상이다.
+ * 시작 시 member 테이블로 만들고, 추천에 쓰는 정보가 바뀌면 커밋 이후 해당 유저만 다시 읽어 반영하며
+ * Redis pub/sub 으로 이메일을 보내 다른 서버도 다시 읽게 한다. 놓친 메시지는 resync-interval 마다 다시 만들어 정리한다.
+ */
+@Log4j2
+@Component
+public class MemberRecommendationIndex implements MessageListener {
+    public static final String RECOMMENDATION_CHANNEL = "recommendation-index";
+
+    private final MemberRepository memberRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListener;
+    private volatile RecommendationIndex index = new RecommendationIndex();
+    // 재구성 중 반영된 유저, 교체한 색인에 다시 반영한다
+    private volatile Queue<String> changesDuringRebuild;
+
+    public MemberRecommendationIndex(MemberRepository memberRepository,
+                                     RedisTemplate<String, Object> redisTemplate,
+                                     RedisMessageListenerContainer redisMessageListener) {
+        this.memberRepository = memberRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListener = redisMessageListener;
+    }
+
+    @PostConstruct
+    public void start() {
+        redisMessageListener.addMessageListener(this, new ChannelTopic(RECOMMENDATION_CHANNEL));
+    }
+
+    @PreDestroy
+    public void stop() {
+        redisMessageListener.removeMessageListener(this, new ChannelTopic(RECOMMENDATION_CHANNEL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${member.recommendation.resync-interval:1800000}",
+            fixedDelayString = "${member.recommendation.resync-interval:1800000}")
+    public synchronized void rebuild() {
+        Queue<String> changes = new ConcurrentLinkedQueue<>();
+        changesDuringRebuild = changes;
+        RecommendationIndex rebuiltIndex = new RecommendationIndex();
+        for (RecommendationRow row : memberRepository.findRecommendationRows(Privilege.USER)) {
+            put(rebuiltIndex, row);
+        }
+        index = rebuiltIndex;
+        changesDuringRebuild = null;
+        changes.forEach(this::reload);
+        log.debug("추천 색인 재구성: {}명", rebuiltIndex.size());
+    }
+
+    /**
+     * 닉네임, 생년월일, 관심사, 이상형, 동물상, 역할 변경 시 호출. 트랜잭션 안에서 호출되면 커밋된 이후에 반영한다
+     */
+    public void refresh(String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload(email);
+            publish(email);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reload(email);
+                publish(email);
+            }
+        });
+    }
+
+    /**
+     * email 유저에게 추천할 유저 목록. 색인에 없는 유저는 DB 로 한 번 더 확인하고, 추천 대상이 아니면 빈 목록
+     */
+    public List<RecommendationIndex.Entry> recommend(String email, int rangeYear, Collection<String> excluded, int limit) {
+        RecommendationIndex current = index;
+        if (!current.contains(email) && !reload(email)) {
+            return List.of();
+        }
+        return index.recommend(email, rangeYear, excluded, limit);
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String email = redisTemplate.getStringSerializer().deserialize(message.getBody());
+        if (Objects.nonNull(email)) {
+            reload(email);
+        }
+    }
+
+    private boolean reload(String email) {
+        Queue<String> changes = changesDuringRebuild;
+        if (Objects.nonNull(changes)) {
+            changes.add(email);
+        }
+        Optional<RecommendationRow> row = memberRepository.findRecommendationRow(email, Privilege.USER);
+        if (row.isPresent()) {
+            put(index, row.get());
+            return true;
+        }
+        index.remove(email);
+        return false;
+    }
+
+    private void publish(String email) {
+        try {
+            redisTemplate.convertAndSend(RECOMMENDATION_CHANNEL, email);
+        } catch (RuntimeException e) {
+            log.error("추천 색인 변경 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    private static void put(RecommendationIndex target, RecommendationRow row) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(row.birth());
+        target.put(row.email(), row.nickname(), row.gender(), calendar.get(Calendar.YEAR),
+                split(row.interest()), split(row.idealAnimal()), row.animal());
+    }
+
+    // "[게임, 운동]" 형태로 저장된 목록을 나눈다
+    private static List<String> split(String value) {
+        if (Objects.isNull(value)) {
+            return List.of();
+        }
+        String trimmed = value.strip();
+        if (trimmed.startsWith("[") && trimmed.endsWith("]")) {
+            trimmed = trimmed.substring(1, trimmed.length() - 1);
+        }
+        return Arrays.stream(trimmed.split("[,\\n]"))
+                .map(String::strip)
+                .filter(item -> !item.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,11 @@
+package com.zooting.api.domain.member.application;
+
+import com.zooting.api.domain.member.dto.response.MemberStatus;
+
+public interface MemberRelationService {
+    MemberStatus findStatus(String me, String you);
+    void addFriend(String email, String friend);
+    void removeFriend(String email, String friend);
+    void addBlock(String from, String to);
+    void removeBlock(String from, String to);
+}
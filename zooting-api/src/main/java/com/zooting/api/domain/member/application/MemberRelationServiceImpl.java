@@ -0,0 +1,84 @@
+package com.zooting.api.domain.member.application;
+
+import com.zooting.api.domain.block.dao.BlockRepository;
+import com.zooting.api.domain.friend.dao.FriendRepository;
+import com.zooting.api.domain.member.dao.MemberRelationRedisDao;
+import com.zooting.api.domain.member.dto.response.MemberStatus;
+import com.zooting.api.domain.report.dao.ReportRedisDao;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 프로필 조회 시 친구, 차단, 신고 여부를 유저별 관계 캐시에서 한 번에 조회한다.
+ * 캐시에 없는 유저는 친구, 차단 목록을 한 번씩 불러와 채우고,
+ * 친구/차단 변경은 커밋 이후 양쪽 유저의 캐시를 지운다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MemberRelationServiceImpl implements MemberRelationService {
+    private final MemberRelationRedisDao memberRelationRedisDao;
+    private final FriendRepository friendRepository;
+    private final BlockRepository blockRepository;
+    private final ReportRedisDao reportRedisDao;
+
+    @Override
+    public MemberStatus findStatus(String me, String you) {
+        MemberStatus status = memberRelationRedisDao.findStatus(me, you);
+        if (Objects.nonNull(status)) {
+            return status;
+        }
+        String version = memberRelationRedisDao.findVersion(me);
+        List<String> friends = friendRepository.findFollowingEmails(me);
+        List<String> blocks = blockRepository.findToEmailsByFrom(me);
+        if (memberRelationRedisDao.load(me, version, friends, blocks)) {
+            return memberRelationRedisDao.findStatus(me, you);
+        }
+        // 조회 중 관계가 바뀌어 캐시에 저장하지 않은 경우 이번 조회 결과로만 응답한다
+        return new MemberStatus(friends.contains(you), blocks.contains(you), reportRedisDao.isReported(you));
+    }
+
+    // 친구 관계는 양방향으로 저장된다
+    @Override
+    public void addFriend(String email, String friend) {
+        afterCommit(() -> {
+            memberRelationRedisDao.invalidate(email);
+            memberRelationRedisDao.invalidate(friend);
+        });
+    }
+
+    @Override
+    public void removeFriend(String email, String friend) {
+        afterCommit(() -> {
+            memberRelationRedisDao.invalidate(email);
+            memberRelationRedisDao.invalidate(friend);
+        });
+    }
+
+    @Override
+    public void addBlock(String from, String to) {
+        afterCommit(() -> memberRelationRedisDao.invalidate(from));
+    }
+
+    @Override
+    public void removeBlock(String from, String to) {
+        afterCommit(() -> memberRelationRedisDao.invalidate(from));
+    }
+
+    private void afterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+}
@@ -23,6 +23,7 @@ public interface MemberService {
     void changeBackground(String memberId, BackgroundReq backgroundReq);
     boolean modifyNickname(String memberId, NicknameReq nicknameReq);
     MemberSearchPageRes findMemberList(Pageable pageable, String userId, String nickname);
+    List<MemberSearchRes> autocompleteNickname(String userId, String prefix, int size);
     void updatePersonality(String userId, PersonalityReq personalityReq);
     PointRes findPoints(String userId);
     void deductPoints(String userId, Long price);
@@ -2,29 +2,37 @@ package com.zooting.api.domain.member.application;
 
 import com.zooting.api.domain.background.dao.BackgroundInventoryRepository;
 import com.zooting.api.domain.background.entity.Background;
-import com.zooting.api.domain.block.entity.Block;
+import com.zooting.api.domain.block.dao.BlockRepository;
+import com.zooting.api.domain.friend.dao.FriendRepository;
 import com.zooting.api.domain.mask.dao.MaskInventoryRepository;
 import com.zooting.api.domain.mask.entity.Mask;
 import com.zooting.api.domain.mask.entity.MaskInventory;
-import com.zooting.api.domain.member.dao.ExtractObj;
+import com.zooting.api.domain.member.dao.CachedMemberProfile;
 import com.zooting.api.domain.member.dao.MemberRepository;
 import com.zooting.api.domain.member.dto.request.*;
 import com.zooting.api.domain.member.dto.response.*;
 import com.zooting.api.domain.member.entity.AdditionalInfo;
 import com.zooting.api.domain.member.entity.Member;
 import com.zooting.api.domain.member.entity.Privilege;
+import com.zooting.api.domain.member.util.NicknameIndex;
 import com.zooting.api.global.common.code.ErrorCode;
 import com.zooting.api.global.exception.BaseExceptionHandler;
+import com.zooting.api.global.jwt.service.JwtService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 
 @Service
@@ -33,6 +41,15 @@ public class MemberServiceImpl implements MemberService {
     private final MemberRepository memberRepository;
     private final MaskInventoryRepository maskInventoryRepository;
     private final BackgroundInventoryRepository backgroundInventoryRepository;
+    private final JwtService jwtService;
+    private final MemberRelationService memberRelationService;
+    private final BlockRepository blockRepository;
+    private final NicknameSearchIndex nicknameSearchIndex;
+    private final MemberProfileCache memberProfileCache;
+    private final MemberRecommendationIndex memberRecommendationIndex;
+    private final FriendRepository friendRepository;
+    @Value("${member.recommendation.size:20}")
+    private int recommendationSize;
     public static final String DEFAULT_MASK = "https://zooting-s3-bucket.s3.ap-northeast-2.amazonaws.com/Mask/animal_group.png";
     public static final String DEFAULT_BACKGROUND = "https://zooting-s3-bucket.s3.ap-northeast-2.amazonaws.com/Background/oilpaintart.jpg";
     public static final Long DEFAULT_MASK_ID = 100L;
@@ -42,9 +59,24 @@ public class MemberServiceImpl implements MemberService {
 
     @Override
     public boolean existNickname(String nickname) {
+        // 블룸 필터에 없으면 사용 가능한 닉네임이 확실하므로 DB 를 조회하지 않는다
+        if (nicknameSearchIndex.isNicknameDefinitelyUnused(nickname)) {
+            return false;
+        }
         return memberRepository.existsByNickname(nickname);
     }
 
+    /**
+     * 중복 확인 이후 DB collation 상 같은 닉네임이 먼저 저장된 경우 unique 제약 위반을 닉네임 중복 오류로 바꾼다
+     */
+    private void saveNickname(Member member, ErrorCode errorCode) {
+        try {
+            memberRepository.saveAndFlush(member);
+        } catch (DataIntegrityViolationException e) {
+            throw new BaseExceptionHandler(errorCode, "닉네임 중복");
+        }
+    }
+
     @Transactional(readOnly = true)
     @Override
     public List<Privilege> checkMemberPrivilege(String userId) {
@@ -66,45 +98,32 @@ public class MemberServiceImpl implements MemberService {
     @Transactional(readOnly = true)
     @Override
     public MemberRes findMemberInfo(String memberId) {
-        Member member = memberRepository.findMemberByEmail(memberId).orElseThrow(() ->
-                new BaseExceptionHandler(ErrorCode.NOT_FOUND_USER));
-
-        return new MemberRes(
-                member.getEmail(),
-                member.getGender(),
-                member.getNickname(),
-                member.getBirth(),
-                member.getAddress(),
-                member.getPoint(),
-                member.getAdditionalInfo().getIntroduce(),
-                member.getAdditionalInfo().getPersonality(),
-                member.getAdditionalInfo().getAnimal(),
-                member.getAdditionalInfo().getInterest(),
-                member.getAdditionalInfo().getIdealAnimal(),
-                member.getAdditionalInfo().getBackgroundId(),
-                member.getAdditionalInfo().getBackgroundUrl(),
-                member.getAdditionalInfo().getMaskId(),
-                member.getAdditionalInfo().getMaskUrl(),
-                null // 나 자신 조회의 경우 상태 관리 필요 없음
-        );
+        CachedMemberProfile profile = memberProfileCache.getByEmail(memberId, () ->
+                toProfile(memberRepository.findMemberByEmail(memberId).orElseThrow(() ->
+                        new BaseExceptionHandler(ErrorCode.NOT_FOUND_USER))));
+        // 나 자신 조회의 경우 상태 관리 필요 없음
+        return profile.toMemberRes(true, null);
     }
 
     @Transactional(readOnly = true)
     @Override
     public MemberRes findMemberInfoByNickname(String userId, String nickname) {
         // 상대방 확인
-        Member member = memberRepository.findMemberByNickname(nickname).orElseThrow(() ->
-                new BaseExceptionHandler(ErrorCode.NOT_FOUND_USER));
-        // 내 객체 생성
-        var me = Member.builder().email(userId).build();
+        CachedMemberProfile profile = memberProfileCache.getByNickname(nickname, () ->
+                toProfile(memberRepository.findMemberByNickname(nickname).orElseThrow(() ->
+                        new BaseExceptionHandler(ErrorCode.NOT_FOUND_USER))));
+        // 상대방 조회의 경우 포인트 조회 X
+        return profile.toMemberRes(false, memberRelationService.findStatus(userId, profile.email()));
+    }
 
-        return new MemberRes(
+    private CachedMemberProfile toProfile(Member member) {
+        return new CachedMemberProfile(
                 member.getEmail(),
                 member.getGender(),
                 member.getNickname(),
-                member.getBirth(),
+                Objects.nonNull(member.getBirth()) ? member.getBirth().getTime() : null,
                 member.getAddress(),
-                null, // 상대방 조회의 경우 포인트 조회 X
+                member.getPoint(),
                 member.getAdditionalInfo().getIntroduce(),
                 member.getAdditionalInfo().getPersonality(),
                 member.getAdditionalInfo().getAnimal(),
@@ -113,8 +132,7 @@ public class MemberServiceImpl implements MemberService {
                 member.getAdditionalInfo().getBackgroundId(),
                 member.getAdditionalInfo().getBackgroundUrl(),
                 member.getAdditionalInfo().getMaskId(),
-                member.getAdditionalInfo().getMaskUrl(),
-                memberRepository.findByNicknameWithStatus(me, member)
+                member.getAdditionalInfo().getMaskUrl()
         );
     }
 
@@ -127,10 +145,13 @@ public class MemberServiceImpl implements MemberService {
             throw new BaseExceptionHandler(ErrorCode.NOT_VALID_ERROR);
         }
         member.setNickname(memberReq.nickname());
+        saveNickname(member, ErrorCode.NOT_VALID_ERROR);
+        jwtService.updateTokenNickname(memberId, memberReq.nickname());
         SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
         member.setBirth(sdf.parse(memberReq.birth()));
         member.setAddress(memberReq.address());
         member.setGender(memberReq.gender().toString());
+        nicknameSearchIndex.update(memberId, memberReq.nickname(), member.getGender());
         member.setPoint(DEFAULT_POINT); // 추가 정보 저장 시 포인트 0으로 저장
 
         AdditionalInfo additionalInfo = member.getAdditionalInfo();
@@ -148,6 +169,8 @@ public class MemberServiceImpl implements MemberService {
         additionalInfo.setMember(member);
 
         memberRepository.save(member);
+        memberProfileCache.evict(memberId);
+        memberRecommendationIndex.refresh(memberId);
     }
 
     @Transactional
@@ -160,6 +183,8 @@ public class MemberServiceImpl implements MemberService {
         member.getAdditionalInfo().setIdealAnimal(memberModifyReq.idealAnimal().toString());
 
         memberRepository.save(member);
+        memberProfileCache.evict(memberId);
+        memberRecommendationIndex.refresh(memberId);
     }
 
     @Transactional
@@ -175,6 +200,8 @@ public class MemberServiceImpl implements MemberService {
         additionalInfo.setIdealAnimal(additionalReq.idealAnimal().toString());
         additionalInfo.setMember(member);
         memberRepository.save(member);
+        memberProfileCache.evict(memberId);
+        memberRecommendationIndex.refresh(memberId);
     }
 
     @Transactional
@@ -189,6 +216,7 @@ public class MemberServiceImpl implements MemberService {
         additionalInfo.setIntroduce(introduceReq.introduce());
         additionalInfo.setMember(member);
         memberRepository.save(member);
+        memberProfileCache.evict(memberId);
     }
 
     @Transactional
@@ -204,6 +232,7 @@ public class MemberServiceImpl implements MemberService {
         if (mask.getAnimal().equals(memberInfo.getAnimal())) {
             memberInfo.setMaskId(mask.getId());
             memberInfo.setMaskUrl(mask.getFile().getImgUrl());
+            memberProfileCache.evict(memberId);
             return true;
         }
         return false;
@@ -222,6 +251,7 @@ public class MemberServiceImpl implements MemberService {
         Background background = myBackground.get(0).getBackground();
         memberInfo.setBackgroundId(background.getId());
         memberInfo.setBackgroundUrl(background.getFile().getImgUrl());
+        memberProfileCache.evict(memberId);
     }
 
     @Transactional
@@ -230,12 +260,16 @@ public class MemberServiceImpl implements MemberService {
         Member member = memberRepository.findMemberByEmail(memberId)
                 .orElseThrow(() -> new BaseExceptionHandler(ErrorCode.NOT_FOUND_USER));
         // 닉네임 중복 체크 && 잔여 포인트 확인
-        if (!memberRepository.existsByNickname(nicknameReq.nickname()) && member.getPoint() >= CHANGE_NICKNAME_PRICE) {
+        if (!existNickname(nicknameReq.nickname()) && member.getPoint() >= CHANGE_NICKNAME_PRICE) {
             // 닉네임 변경
             member.setNickname(nicknameReq.nickname());
             // 포인트 차감
             member.setPoint(member.getPoint() - CHANGE_NICKNAME_PRICE);
-            memberRepository.save(member);
+            saveNickname(member, ErrorCode.FAILED_TO_UPDATE_MEMBER);
+            jwtService.updateTokenNickname(memberId, nicknameReq.nickname());
+            nicknameSearchIndex.update(memberId, nicknameReq.nickname(), member.getGender());
+            memberProfileCache.evict(memberId);
+            memberRecommendationIndex.refresh(memberId);
             return true;
         }
         return false;
@@ -245,29 +279,28 @@ public class MemberServiceImpl implements MemberService {
     @Transactional(readOnly = true)
     @Override
     public MemberSearchPageRes findMemberList(Pageable pageable, String userId, String nickname) {
-        Member member = memberRepository.findMemberByEmail(userId)
-                .orElseThrow(() -> new BaseExceptionHandler(ErrorCode.NOT_FOUND_USER));
-        Page<MemberSearchRes> findMembers;
-
-        // 나를 차단한 유저 리스트 추출
-        List<Block> blockList = member.getBlockToList();
-
-        if (!blockList.isEmpty()) {
-            List<String> blockMemberNicknames = blockList.stream().map(block -> block.getFrom().getNickname()).toList();
-            if (Objects.isNull(nickname)) {
-                findMembers = memberRepository.findMembersBy(pageable);
-            } else {
-                findMembers = memberRepository.findByNicknameContainingAndNicknameNotIn(pageable, nickname, blockMemberNicknames);
-            }
-        } else {
-            if (Objects.isNull(nickname)) {
-                findMembers = memberRepository.findMembersBy(pageable);
-            } else {
-                findMembers = memberRepository.findMemberByNicknameContaining(pageable, nickname);
-            }
+        if (!StringUtils.hasText(nickname)) {
+            Page<MemberSearchRes> findMembers = memberRepository.findMembersBy(pageable);
+            return new MemberSearchPageRes(findMembers.getContent(), findMembers.getNumber(), findMembers.getTotalPages());
         }
-        return new MemberSearchPageRes(findMembers.getContent(), findMembers.getNumber(), findMembers.getTotalPages());
+        // 나를 차단한 유저는 색인 안에서 제외
+        Set<String> blockedBy = new HashSet<>(blockRepository.findFromEmailsByTo(userId));
+        NicknameIndex.SearchResult result = nicknameSearchIndex.search(
+                nickname, email -> !blockedBy.contains(email), pageable.getOffset(), pageable.getPageSize());
+        List<MemberSearchRes> findMembers = result.entries().stream()
+                .map(entry -> new MemberSearchRes(entry.nickname(), entry.gender()))
+                .toList();
+        return new MemberSearchPageRes(findMembers, pageable.getPageNumber(),
+                (result.total() + pageable.getPageSize() - 1) / pageable.getPageSize());
+    }
 
+    @Override
+    public List<MemberSearchRes> autocompleteNickname(String userId, String prefix, int size) {
+        Set<String> blockedBy = new HashSet<>(blockRepository.findFromEmailsByTo(userId));
+        return nicknameSearchIndex.autocomplete(prefix, email -> !blockedBy.contains(email), size)
+                .stream()
+                .map(entry -> new MemberSearchRes(entry.nickname(), entry.gender()))
+                .toList();
     }
 
     @Transactional
@@ -282,6 +315,7 @@ public class MemberServiceImpl implements MemberService {
         additionalInfo.setPersonality(personalityReq.personality());
         additionalInfo.setMember(member);
         memberRepository.save(member);
+        memberProfileCache.evict(userId);
     }
 
 
@@ -304,6 +338,7 @@ public class MemberServiceImpl implements MemberService {
             member.setPoint(memberPoints - price);
         }
         memberRepository.save(member);
+        memberProfileCache.evict(userId);
     }
     @Transactional
     @Override
@@ -313,24 +348,24 @@ public class MemberServiceImpl implements MemberService {
         Long memberPoints = member.getPoint();
         member.setPoint(memberPoints + points);
         memberRepository.save(member);
+        memberProfileCache.evict(userId);
     }
 
     @Override
     public List<MemberSearchRes> extractMembers(String userId, ExtractingReq extractingReq) {
-        Member member = memberRepository.findMemberByEmail(userId)
-                .orElseThrow(() -> new BaseExceptionHandler(ErrorCode.NOT_FOUND_USER));
-        ExtractObj extractObj = new ExtractObj();
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-        extractObj.setMemberBirthYear(member.getBirth().getYear() + 1900);
-        extractObj.setUserId(userId);
-        extractObj.setBlockToList(member.getBlockToList().stream().map(block -> block.getFrom().getEmail()).toList());
-        extractObj.setBlockFromList(member.getBlockFromList().stream().map(block -> block.getTo().getEmail()).toList());
-        extractObj.setFriendList(member.getFriendList().stream().map(fr -> fr.getFollowing().getEmail()).toList());
-        extractObj.setMemberInterests(member.getAdditionalInfo().getInterest().lines().toList());
-        extractObj.setMemberIdeals(member.getAdditionalInfo().getIdealAnimal().lines().toList());
-        extractObj.setRangeYear(extractingReq.rangeYear());
-        System.out.println(extractObj.getMemberIdeals());
-        return memberRepository.extractMatchingMember(extractObj).stream().map(mem -> new MemberSearchRes(mem.getNickname(), mem.getGender())).toList();
+        if (!memberRepository.existsById(userId)) {
+            throw new BaseExceptionHandler(ErrorCode.NOT_FOUND_USER);
+        }
+        // 차단한 유저, 나를 차단한 유저, 친구는 추천하지 않는다
+        Set<String> excluded = new HashSet<>(blockRepository.findToEmailsByFrom(userId));
+        excluded.addAll(blockRepository.findFromEmailsByTo(userId));
+        excluded.addAll(friendRepository.findFollowingEmails(userId));
+        // 나이 선택 x 시 전체 나이대
+        int rangeYear = Objects.nonNull(extractingReq.rangeYear()) ? extractingReq.rangeYear() : Integer.MAX_VALUE;
+        return memberRecommendationIndex.recommend(userId, rangeYear, excluded, recommendationSize)
+                .stream()
+                .map(entry -> new MemberSearchRes(entry.nickname(), entry.gender()))
+                .toList();
     }
 
     @Override
@@ -0,0 +1,162 @@
+package com.zooting.api.domain.member.application;
+
+import com.google.gson.Gson;
+import com.zooting.api.domain.member.dao.MemberRepository;
+import com.zooting.api.domain.member.dao.NicknameIndexRow;
+import com.zooting.api.domain.member.util.NicknameBloomFilter;
+import com.zooting.api.domain.member.util.NicknameIndex;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Predicate;
+
+/**
+ * 유저 검색, 친구 검색, 자동완성에 쓰는 닉네임 색인과 닉네임 중복 확인용 블룸 필터를 관리한다.
+ * 시작 시 member 테이블로 만들고, 닉네임이 바뀌면 커밋 이후 반영하며 Redis pub/sub 으로 다른 서버에도 알린다.
+ * 놓친 메시지와 블룸 필터에 남은 이전 닉네임은 resync-interval 마다 다시 만들어 교체하여 정리한다.
+ */
+@Log4j2
+@Component
+public class NicknameSearchIndex implements MessageListener {
+    public static final String NICKNAME_CHANNEL = "nickname-index";
+
+    private final MemberRepository memberRepository;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListener;
+    private final Gson gson;
+    private final long expectedNicknames;
+    private final double falsePositiveRate;
+    private volatile NicknameIndex index = new NicknameIndex();
+    // 첫 재구성 전에는 null, 이때는 DB 로 확인한다
+    private volatile NicknameBloomFilter nicknameFilter;
+    // 재구성 중 반영된 변경, 교체한 색인에 다시 반영한다
+    private volatile Queue<NicknameIndexRow> changesDuringRebuild;
+
+    public NicknameSearchIndex(MemberRepository memberRepository,
+                               RedisTemplate<String, Object> redisTemplate,
+                               RedisMessageListenerContainer redisMessageListener,
+                               Gson gson,
+                               @Value("${member.nickname-filter.expected-insertions:100000}") long expectedNicknames,
+                               @Value("${member.nickname-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.memberRepository = memberRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListener = redisMessageListener;
+        this.gson = gson;
+        this.expectedNicknames = expectedNicknames;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @PostConstruct
+    public void start() {
+        redisMessageListener.addMessageListener(this, new ChannelTopic(NICKNAME_CHANNEL));
+    }
+
+    @PreDestroy
+    public void stop() {
+        redisMessageListener.removeMessageListener(this, new ChannelTopic(NICKNAME_CHANNEL));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${member.nickname-index.resync-interval:1800000}",
+            fixedDelayString = "${member.nickname-index.resync-interval:1800000}")
+    public synchronized void rebuild() {
+        Queue<NicknameIndexRow> changes = new ConcurrentLinkedQueue<>();
+        changesDuringRebuild = changes;
+        List<NicknameIndexRow> rows = memberRepository.findNicknameIndexRows();
+        NicknameIndex rebuiltIndex = new NicknameIndex();
+        // 회원 수가 예상보다 많아도 오탐률이 유지되도록 여유를 둔다
+        NicknameBloomFilter rebuiltFilter = new NicknameBloomFilter(
+                Math.max(expectedNicknames, rows.size() * 2L), falsePositiveRate);
+        for (NicknameIndexRow row : rows) {
+            rebuiltIndex.put(row.email(), row.nickname(), row.gender());
+            rebuiltFilter.put(row.nickname());
+        }
+        index = rebuiltIndex;
+        nicknameFilter = rebuiltFilter;
+        changesDuringRebuild = null;
+        changes.forEach(this::apply);
+        log.debug("닉네임 색인 재구성: {}명", rebuiltIndex.size());
+    }
+
+    /**
+     * 블룸 필터에 없는 닉네임은 어떤 유저도 사용하지 않는 것이 확실하다
+     */
+    public boolean isNicknameDefinitelyUnused(String nickname) {
+        NicknameBloomFilter filter = nicknameFilter;
+        return Objects.nonNull(filter) && !filter.mightContain(nickname);
+    }
+
+    /**
+     * 닉네임, 성별 변경 시 호출. 트랜잭션 안에서 호출되면 커밋된 이후에 반영한다
+     */
+    public void update(String email, String nickname, String gender) {
+        NicknameIndexRow row = new NicknameIndexRow(email, nickname, gender);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(row);
+            publish(row);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(row);
+                publish(row);
+            }
+        });
+    }
+
+    public NicknameIndex.SearchResult search(String keyword, Predicate<String> filter, long offset, int limit) {
+        return index.search(keyword, filter, offset, limit);
+    }
+
+    public List<NicknameIndex.Entry> autocomplete(String prefix, Predicate<String> filter, int limit) {
+        return index.autocomplete(prefix, filter, limit);
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        NicknameIndexRow row = gson.fromJson(
+                redisTemplate.getStringSerializer().deserialize(message.getBody()), NicknameIndexRow.class);
+        if (Objects.nonNull(row) && Objects.nonNull(row.email())) {
+            apply(row);
+        }
+    }
+
+    private void apply(NicknameIndexRow row) {
+        Queue<NicknameIndexRow> changes = changesDuringRebuild;
+        if (Objects.nonNull(changes)) {
+            changes.add(row);
+        }
+        index.put(row.email(), row.nickname(), row.gender());
+        NicknameBloomFilter filter = nicknameFilter;
+        if (Objects.nonNull(filter)) {
+            filter.put(row.nickname());
+        }
+    }
+
+    private void publish(NicknameIndexRow row) {
+        try {
+            redisTemplate.convertAndSend(NICKNAME_CHANNEL, gson.toJson(row));
+        } catch (RuntimeException e) {
+            log.error("닉네임 색인 변경 전파 실패: {}", e.getMessage());
+        }
+    }
+}
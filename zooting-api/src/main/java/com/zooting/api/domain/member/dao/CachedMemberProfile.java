@@ -0,0 +1,50 @@
+package com.zooting.api.domain.member.dao;
+
+import com.zooting.api.domain.member.dto.response.MemberRes;
+import com.zooting.api.domain.member.dto.response.MemberStatus;
+
+import java.util.Date;
+import java.util.Objects;
+
+/**
+ * 프로필 캐시에 저장하는 유저 정보. 조회하는 유저마다 다른 관계 정보는 저장하지 않는다.
+ * Gson 의 Date 문자열 형식은 JDK 로케일 데이터에 따라 달라지므로 생년월일은 epoch millis 로 저장한다.
+ */
+public record CachedMemberProfile(
+        String email,
+        String gender,
+        String nickname,
+        Long birth,
+        String address,
+        Long point,
+        String introduce,
+        String personality,
+        String animal,
+        String interest,
+        String idealAnimal,
+        Long backgroundId,
+        String backgroundImgUrl,
+        Long maskId,
+        String maskImgUrl
+) {
+    public MemberRes toMemberRes(boolean withPoint, MemberStatus memberStatus) {
+        return new MemberRes(
+                email,
+                gender,
+                nickname,
+                Objects.nonNull(birth) ? new Date(birth) : null,
+                address,
+                withPoint ? point : null,
+                introduce,
+                personality,
+                animal,
+                interest,
+                idealAnimal,
+                backgroundId,
+                backgroundImgUrl,
+                maskId,
+                maskImgUrl,
+                memberStatus
+        );
+    }
+}
@@ -0,0 +1,63 @@
+package com.zooting.api.domain.member.dao;
+
+import com.google.gson.Gson;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 프로필 캐시의 Redis 계층
+ * profile:{email}            - CachedMemberProfile json
+ * profile:nickname:{nickname} - 이메일 (닉네임 변경 후 남은 값은 조회 시 프로필의 닉네임과 비교하여 무시)
+ */
+@Component
+public class MemberProfileRedisDao {
+    private static final String PROFILE = "profile:";
+    private static final String NICKNAME = "profile:nickname:";
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Gson gson;
+    private final Duration ttl;
+
+    public MemberProfileRedisDao(RedisTemplate<String, Object> redisTemplate,
+                                 Gson gson,
+                                 @Value("${member.profile-cache.ttl:3600}") long ttl) {
+        this.redisTemplate = redisTemplate;
+        this.gson = gson;
+        this.ttl = Duration.ofSeconds(ttl);
+    }
+
+    public CachedMemberProfile find(String email) {
+        Object json = redisTemplate.opsForValue().get(PROFILE + email);
+        return Objects.nonNull(json) ? gson.fromJson((String) json, CachedMemberProfile.class) : null;
+    }
+
+    public String findEmailByNickname(String nickname) {
+        return (String) redisTemplate.opsForValue().get(NICKNAME + nickname);
+    }
+
+    public void save(CachedMemberProfile profile) {
+        String json = gson.toJson(profile);
+        redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, Object> redisOperations = (RedisOperations<String, Object>) operations;
+                redisOperations.opsForValue().set(PROFILE + profile.email(), json, ttl);
+                if (Objects.nonNull(profile.nickname())) {
+                    redisOperations.opsForValue().set(NICKNAME + profile.nickname(), profile.email(), ttl);
+                }
+                return null;
+            }
+        });
+    }
+
+    public void delete(String email) {
+        redisTemplate.delete(PROFILE + email);
+    }
+}
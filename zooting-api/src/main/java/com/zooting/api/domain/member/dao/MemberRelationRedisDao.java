@@ -0,0 +1,128 @@
+package com.zooting.api.domain.member.dao;
+
+import com.zooting.api.domain.member.dto.response.MemberStatus;
+import com.zooting.api.domain.report.dao.ReportRedisDao;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 유저별 친구, 차단 관계를 Redis 에 캐시한다.
+ * relation:{email}:loaded  - 관계를 DB 에서 불러왔는지 여부 (빈 SET 은 저장되지 않으므로 따로 표시)
+ * relation:{email}:friends - SET, 친구 이메일
+ * relation:{email}:blocks  - SET, 내가 차단한 유저 이메일
+ * relation:{email}:version - 관계 변경 횟수, 변경 시 증가시키고 나머지 키를 지운다
+ * 네 키 모두 ttl 동안 유지된다. DB 조회 전 읽은 version 이 그대로일 때만 불러온 관계를 저장하므로,
+ * 조회와 겹친 변경이 있으면 이전 관계가 캐시되지 않고 다음 조회 때 다시 불러온다.
+ */
+@Component
+public class MemberRelationRedisDao {
+    private static final String RELATION = "relation:";
+    private static final String LOADED = ":loaded";
+    private static final String FRIENDS = ":friends";
+    private static final String BLOCKS = ":blocks";
+    private static final String VERSION = ":version";
+    // 불러온 유저가 아니면 nil, 맞으면 {친구 여부, 차단 여부, 신고 여부}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> STATUS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return nil
+            end
+            return {
+                redis.call('SISMEMBER', KEYS[2], ARGV[1]),
+                redis.call('SISMEMBER', KEYS[3], ARGV[1]),
+                redis.call('EXISTS', KEYS[4])
+            }
+            """, List.class);
+    // ARGV[1]: ttl, ARGV[2]: DB 조회 전 version, ARGV[3]: 친구 수, 이후 친구 이메일, 차단 이메일 순
+    // 조회 중 관계가 바뀌어 version 이 달라졌으면 저장하지 않고 0
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[4]) or '0') ~= ARGV[2] then
+                return 0
+            end
+            redis.call('DEL', KEYS[2], KEYS[3])
+            local friendCount = tonumber(ARGV[3])
+            for i = 4, #ARGV do
+                redis.call('SADD', i < 4 + friendCount and KEYS[2] or KEYS[3], ARGV[i])
+            end
+            redis.call('SET', KEYS[1], '1', 'EX', ARGV[1])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            redis.call('EXPIRE', KEYS[3], ARGV[1])
+            return 1
+            """, Long.class);
+    // ARGV[1]: ttl
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>("""
+            local version = redis.call('INCR', KEYS[4])
+            redis.call('EXPIRE', KEYS[4], ARGV[1])
+            redis.call('DEL', KEYS[1], KEYS[2], KEYS[3])
+            return version
+            """, Long.class);
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final long ttl;
+
+    public MemberRelationRedisDao(RedisTemplate<String, Object> redisTemplate,
+                                  @Value("${member.relation.ttl:86400}") long ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    /**
+     * me 기준 you 와의 관계를 한 번의 스크립트 실행으로 조회. me 의 관계를 아직 불러오지 않았으면 null
+     */
+    public MemberStatus findStatus(String me, String you) {
+        List<?> result = redisTemplate.execute(STATUS_SCRIPT,
+                List.of(key(me, LOADED), key(me, FRIENDS), key(me, BLOCKS), ReportRedisDao.countKey(you)), you);
+        if (Objects.isNull(result) || result.size() < 3) {
+            return null;
+        }
+        return new MemberStatus(isTrue(result.get(0)), isTrue(result.get(1)), isTrue(result.get(2)));
+    }
+
+    /**
+     * DB 에서 관계를 조회하기 전에 읽어 load 에 넘긴다
+     */
+    public String findVersion(String email) {
+        Object version = redisTemplate.opsForValue().get(key(email, VERSION));
+        return Objects.nonNull(version) ? version.toString() : "0";
+    }
+
+    /**
+     * version 이후 관계가 바뀌지 않았을 때만 저장하고 true
+     */
+    public boolean load(String email, String version, Collection<String> friends, Collection<String> blocks) {
+        List<Object> args = new ArrayList<>(friends.size() + blocks.size() + 3);
+        args.add(String.valueOf(ttl));
+        args.add(version);
+        args.add(String.valueOf(friends.size()));
+        args.addAll(friends);
+        args.addAll(blocks);
+        Long loaded = redisTemplate.execute(LOAD_SCRIPT, keys(email), args.toArray());
+        return Objects.nonNull(loaded) && loaded > 0;
+    }
+
+    /**
+     * 친구, 차단 변경 시 호출. 캐시를 지우고 version 을 올려 진행 중인 load 가 이전 관계를 저장하지 못하게 한다
+     */
+    public void invalidate(String email) {
+        redisTemplate.execute(INVALIDATE_SCRIPT, keys(email), String.valueOf(ttl));
+    }
+
+    private static List<String> keys(String email) {
+        return List.of(key(email, LOADED), key(email, FRIENDS), key(email, BLOCKS), key(email, VERSION));
+    }
+
+    private static boolean isTrue(Object value) {
+        return value instanceof Long number && number > 0;
+    }
+
+    private static String key(String email, String suffix) {
+        return RELATION + email + suffix;
+    }
+}
@@ -1,8 +1,8 @@
 package com.zooting.api.domain.member.dao;
 
 import com.zooting.api.domain.member.dto.response.MemberSearchRes;
-import com.zooting.api.domain.member.dto.response.MemberStatus;
 import com.zooting.api.domain.member.entity.Member;
+import com.zooting.api.domain.member.entity.Privilege;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,7 +12,7 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
-public interface MemberRepository extends JpaRepository<Member, String>, MemberRepositoryCustom {
+public interface MemberRepository extends JpaRepository<Member, String> {
     boolean existsByNickname(String nickname);
 
     Optional<Member> findMemberByEmail(String email);
@@ -26,32 +26,16 @@ public interface MemberRepository extends JpaRepository<Member, String>, MemberR
 
     Optional<Member> findByEmail(String email);
 
-    @Query(value = """
-            select new com.zooting.api.domain.member.dto.response.MemberStatus(
-            result.friend, result.block, result.report
-            )
-            FROM (
-            SELECT
-                    CASE WHEN
-                        (SELECT COUNT(f.follower)
-                         FROM Member m
-                         JOIN Friend f ON f.follower = :me AND f.following = :you
-                         WHERE m = :me) > 0
-                    THEN true ELSE false END as friend,
-                    CASE WHEN
-                        (SELECT COUNT(b.to)
-                         FROM Member m
-                         JOIN Block b ON b.from = :me AND b.to = :you
-                         WHERE m = :me) > 0
-                    THEN true ELSE false END as block,
-                    CASE WHEN
-                        (SELECT COUNT(r.member)
-                         FROM ReportList r
-                         WHERE r.member = :you) > 0
-                    THEN true ELSE false END as report
-            FROM Member m
-            WHERE m = :me
-            ) as result
-            """)
-    MemberStatus findByNicknameWithStatus(@Param("me") Member me, @Param("you") Member you);
+    @Query("SELECT new com.zooting.api.domain.member.dao.NicknameIndexRow(m.email, m.nickname, m.gender) FROM Member m WHERE m.nickname IS NOT NULL")
+    List<NicknameIndexRow> findNicknameIndexRows();
+
+    @Query("SELECT new com.zooting.api.domain.member.dao.RecommendationRow(m.email, m.nickname, m.gender, m.birth, a.interest, a.idealAnimal, a.animal) " +
+            "FROM Member m JOIN m.additionalInfo a " +
+            "WHERE m.nickname IS NOT NULL AND m.birth IS NOT NULL AND :privilege MEMBER OF m.role")
+    List<RecommendationRow> findRecommendationRows(@Param("privilege") Privilege privilege);
+
+    @Query("SELECT new com.zooting.api.domain.member.dao.RecommendationRow(m.email, m.nickname, m.gender, m.birth, a.interest, a.idealAnimal, a.animal) " +
+            "FROM Member m JOIN m.additionalInfo a " +
+            "WHERE m.email = :email AND m.nickname IS NOT NULL AND m.birth IS NOT NULL AND :privilege MEMBER OF m.role")
+    Optional<RecommendationRow> findRecommendationRow(@Param("email") String email, @Param("privilege") Privilege privilege);
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.zooting.api.domain.member.dao;
+
+/**
+ * 닉네임 검색 색인용 이메일, 닉네임, 성별 projection
+ */
+public record NicknameIndexRow(String email, String nickname, String gender) {
+}
@@ -0,0 +1,17 @@
+package com.zooting.api.domain.member.dao;
+
+import java.util.Date;
+
+/**
+ * 추천 색인용 projection. interest, idealAnimal 은 List.toString() 형태로 저장된 문자열
+ */
+public record RecommendationRow(
+        String email,
+        String nickname,
+        String gender,
+        Date birth,
+        String interest,
+        String idealAnimal,
+        String animal
+) {
+}
@@ -0,0 +1,113 @@
+package com.zooting.api.domain.member.util;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 닉네임 중복 확인용 블룸 필터.
+ * mightContain 이 false 면 등록된 적 없는 닉네임이 확실하고, true 면 DB 로 다시 확인해야 한다.
+ * DB 는 대소문자, 악센트를 구분하지 않는 collation 으로 비교하므로 대소문자, 악센트, 호환 문자와 ß/ss, æ/ae 같은
+ * 확장 문자를 같은 값으로 정규화한다. collation 규칙을 모두 옮긴 것은 아니므로 저장 시 unique 제약 위반은 따로 처리한다.
+ * 비트 설정은 AtomicLongArray 로 처리하여 조회 중에도 잠금 없이 추가할 수 있다.
+ */
+public class NicknameBloomFilter {
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    public NicknameBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (m + 63) >>> 6);
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+    }
+
+    public void put(String nickname) {
+        String key = key(nickname);
+        if (key.isEmpty()) {
+            return;
+        }
+        long hash1 = hash(key, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(key, 0xC2B2AE3D27D4EB4FL);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Long.remainderUnsigned(hash1 + i * hash2, bitSize);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+    }
+
+    public boolean mightContain(String nickname) {
+        String key = key(nickname);
+        if (key.isEmpty()) {
+            return true;
+        }
+        long hash1 = hash(key, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(key, 0xC2B2AE3D27D4EB4FL);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Long.remainderUnsigned(hash1 + i * hash2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 호환 문자, 결합 악센트, 대소문자, 공백 차이를 없애고 분해되지 않는 확장 문자를 풀어 쓴다
+     */
+    static String key(String nickname) {
+        if (nickname == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(nickname, Normalizer.Form.NFKD);
+        StringBuilder sb = new StringBuilder(decomposed.length());
+        decomposed.codePoints()
+                .filter(codePoint -> Character.getType(codePoint) != Character.NON_SPACING_MARK
+                        && !Character.isWhitespace(codePoint))
+                .forEach(sb::appendCodePoint);
+        String lower = sb.toString().toLowerCase(Locale.ROOT);
+        StringBuilder folded = new StringBuilder(lower.length());
+        lower.codePoints().forEach(codePoint -> folded.append(fold(codePoint)));
+        return folded.toString();
+    }
+
+    // NFKD 로 분해되지 않지만 collation 에서 다른 문자열과 같게 비교되는 문자
+    private static String fold(int codePoint) {
+        return switch (codePoint) {
+            case 'ß', 'ẞ' -> "ss";
+            case 'æ' -> "ae";
+            case 'œ' -> "oe";
+            case 'ø' -> "o";
+            case 'đ', 'ð' -> "d";
+            case 'ł' -> "l";
+            case 'ħ' -> "h";
+            case 'ŧ' -> "t";
+            case 'ı' -> "i";
+            case 'þ' -> "th";
+            default -> new String(Character.toChars(codePoint));
+        };
+    }
+
+    // FNV-1a 후 murmur3 finalizer 로 섞는다
+    private static long hash(String key, long seed) {
+        long h = 0xCBF29CE484222325L ^ seed;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xFF;
+            h *= 0x100000001B3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
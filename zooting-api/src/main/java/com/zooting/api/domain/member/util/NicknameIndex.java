@@ -0,0 +1,301 @@
+package com.zooting.api.domain.member.util;
+
+import com.zooting.api.domain.dm.util.DMNgramIndex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 닉네임 검색용 메모리 색인.
+ * - 포함 검색: 정규화한 닉네임의 1-gram, 2-gram 별로 유저 번호 목록(오름차순)을 두고 교집합 후 원문으로 확인한다.
+ * - 자동완성: 정규화한 닉네임 순으로 정렬된 맵에서 접두어 범위만 순회한다.
+ * 차단 등 제외 조건은 결과를 자르기 전에 색인 안에서 적용하므로 페이지 크기가 줄지 않는다.
+ */
+public class NicknameIndex {
+    private static final char SEPARATOR = '\u0000';
+    private static final Comparator<Candidate> RANK = Comparator
+            .comparing(Candidate::prefix).reversed()
+            .thenComparing(Candidate::normalized)
+            .thenComparingInt(Candidate::id);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> idByEmail = new HashMap<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+    // 정규화한 닉네임 + 구분자 + 이메일 -> 유저 번호
+    private final TreeMap<String, Integer> sorted = new TreeMap<>();
+    private String[] emails = new String[16];
+    private String[] nicknames = new String[16];
+    private String[] genders = new String[16];
+    private String[] normalized = new String[16];
+    private int size;
+
+    /**
+     * 유저의 닉네임, 성별을 추가하거나 바꾼다. 닉네임이 없으면 검색 대상에서 뺀다
+     */
+    public void put(String email, String nickname, String gender) {
+        lock.writeLock().lock();
+        try {
+            Integer id = idByEmail.get(email);
+            if (Objects.isNull(id)) {
+                id = size++;
+                grow();
+                idByEmail.put(email, id);
+                emails[id] = email;
+            } else {
+                unindex(id);
+            }
+            nicknames[id] = nickname;
+            genders[id] = gender;
+            String normalizedNickname = DMNgramIndex.normalize(nickname);
+            if (normalizedNickname.isEmpty()) {
+                return;
+            }
+            normalized[id] = normalizedNickname;
+            for (String gram : grams(normalizedNickname, true)) {
+                postings.computeIfAbsent(gram, key -> new Postings()).add(id);
+            }
+            sorted.put(normalizedNickname + SEPARATOR + email, id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String email) {
+        lock.writeLock().lock();
+        try {
+            Integer id = idByEmail.get(email);
+            if (Objects.nonNull(id)) {
+                unindex(id);
+                nicknames[id] = null;
+                genders[id] = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어를 포함하는 닉네임 중 filter 를 통과한 유저를 접두어 일치, 닉네임 순으로 offset 부터 limit 개 반환.
+     * 전체 개수를 위해 후보는 모두 확인하지만 정렬은 offset + limit 개(후보 수 이하) 크기의 힙으로만 한다
+     */
+    public SearchResult search(String keyword, Predicate<String> filter, long offset, int limit) {
+        String query = DMNgramIndex.normalize(keyword);
+        if (query.isEmpty() || offset < 0 || limit <= 0) {
+            return new SearchResult(List.of(), 0);
+        }
+        lock.readLock().lock();
+        try {
+            int[] candidates = candidates(query);
+            // 후보보다 뒤의 페이지면 개수만 센다
+            int k = offset >= candidates.length ? 0 : (int) Math.min(offset + limit, candidates.length);
+            PriorityQueue<Candidate> top = new PriorityQueue<>(RANK.reversed());
+            int total = 0;
+            for (int id : candidates) {
+                String name = normalized[id];
+                if (Objects.isNull(name) || !name.contains(query) || !filter.test(emails[id])) {
+                    continue;
+                }
+                total++;
+                if (k == 0) {
+                    continue;
+                }
+                Candidate candidate = new Candidate(id, name.startsWith(query), name);
+                if (top.size() < k) {
+                    top.add(candidate);
+                } else if (RANK.compare(candidate, top.peek()) < 0) {
+                    top.poll();
+                    top.add(candidate);
+                }
+            }
+            List<Candidate> ranked = new ArrayList<>(top);
+            ranked.sort(RANK);
+            List<Entry> entries = ranked.stream()
+                    .skip(offset)
+                    .map(candidate -> entry(candidate.id()))
+                    .toList();
+            return new SearchResult(entries, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어로 시작하는 닉네임 중 filter 를 통과한 유저를 닉네임 순으로 최대 limit 개 반환
+     */
+    public List<Entry> autocomplete(String prefix, Predicate<String> filter, int limit) {
+        String query = DMNgramIndex.normalize(prefix);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            NavigableMap<String, Integer> range = sorted.subMap(query, true, query + Character.MAX_VALUE, false);
+            List<Entry> entries = new ArrayList<>();
+            for (int id : range.values()) {
+                if (filter.test(emails[id])) {
+                    entries.add(entry(id));
+                    if (entries.size() >= limit) {
+                        break;
+                    }
+                }
+            }
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return sorted.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 가장 짧은 목록부터 교집합을 구해 비교 횟수를 줄인다
+    private int[] candidates(String query) {
+        List<Postings> lists = new ArrayList<>();
+        for (String gram : grams(query, false)) {
+            Postings list = postings.get(gram);
+            if (Objects.isNull(list)) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(Postings::size));
+        int[] result = lists.get(0).toArray();
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = lists.get(i).intersect(result);
+        }
+        return result;
+    }
+
+    private void unindex(int id) {
+        String previous = normalized[id];
+        if (Objects.isNull(previous)) {
+            return;
+        }
+        for (String gram : grams(previous, true)) {
+            Postings list = postings.get(gram);
+            if (Objects.nonNull(list) && list.remove(id) && list.size() == 0) {
+                postings.remove(gram);
+            }
+        }
+        sorted.remove(previous + SEPARATOR + emails[id]);
+        normalized[id] = null;
+    }
+
+    private Entry entry(int id) {
+        return new Entry(emails[id], nicknames[id], genders[id]);
+    }
+
+    private void grow() {
+        if (size <= emails.length) {
+            return;
+        }
+        int capacity = emails.length << 1;
+        emails = Arrays.copyOf(emails, capacity);
+        nicknames = Arrays.copyOf(nicknames, capacity);
+        genders = Arrays.copyOf(genders, capacity);
+        normalized = Arrays.copyOf(normalized, capacity);
+    }
+
+    /**
+     * 색인 시에는 1-gram 과 2-gram 을 모두 만들고,
+     * 검색 시에는 한 글자 검색어만 1-gram 을, 그 외에는 2-gram 만 사용한다
+     */
+    static Set<String> grams(String normalized, boolean forIndex) {
+        int[] codePoints = normalized.codePoints().toArray();
+        Set<String> grams = new LinkedHashSet<>();
+        if (forIndex || codePoints.length == 1) {
+            for (int codePoint : codePoints) {
+                grams.add(Character.toString(codePoint));
+            }
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            grams.add(new String(codePoints, i, 2));
+        }
+        return grams;
+    }
+
+    public record Entry(String email, String nickname, String gender) {
+    }
+
+    public record SearchResult(List<Entry> entries, int total) {
+    }
+
+    private record Candidate(int id, boolean prefix, String normalized) {
+    }
+
+    /**
+     * 오름차순 유저 번호 목록. 신규 유저는 번호가 가장 크므로 대부분 끝에 추가된다
+     */
+    static class Postings {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size << 1);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            ids[position] = id;
+            size++;
+        }
+
+        boolean remove(int id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+
+        int[] intersect(int[] other) {
+            int[] result = new int[Math.min(size, other.length)];
+            int i = 0, j = 0, k = 0;
+            while (i < size && j < other.length) {
+                if (ids[i] < other[j]) {
+                    i++;
+                } else if (ids[i] > other[j]) {
+                    j++;
+                } else {
+                    result[k++] = ids[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, k);
+        }
+    }
+}
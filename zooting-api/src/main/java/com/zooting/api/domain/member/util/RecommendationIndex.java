@@ -0,0 +1,228 @@
+package com.zooting.api.domain.member.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 유저 추천용 메모리 색인.
+ * 추천 대상 유저마다 출생 연도, 관심사 비트마스크, 동물상 번호, 이상형 비트마스크를 배열로 두고
+ * 출생 연도별 비트셋으로 나이 범위 안의 유저만 순회한다.
+ * 관심사 일치 수, 이상형 일치, 나이 차이 순으로 점수를 매겨 limit 크기의 힙으로 상위 유저만 남긴다.
+ * 관심사, 동물상은 앱에서 고르는 정해진 목록이므로 각각 최대 64 종류까지만 비트로 구분하고 나머지는 점수에 반영하지 않는다.
+ */
+public class RecommendationIndex {
+    private static final int MAX_CODES = Long.SIZE;
+    private static final int NO_ANIMAL = -1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> idByEmail = new HashMap<>();
+    private final Map<String, Integer> interestCodes = new HashMap<>();
+    private final Map<String, Integer> animalCodes = new HashMap<>();
+    private final Map<Integer, BitSet> idsByBirthYear = new HashMap<>();
+    private final BitSet active = new BitSet();
+    private String[] emails = new String[16];
+    private String[] nicknames = new String[16];
+    private String[] genders = new String[16];
+    private int[] birthYears = new int[16];
+    private long[] interests = new long[16];
+    private long[] ideals = new long[16];
+    private int[] animals = new int[16];
+    private int size;
+
+    /**
+     * 추천 대상 유저를 추가하거나 바꾼다
+     */
+    public void put(String email, String nickname, String gender, int birthYear,
+                    Collection<String> interestList, Collection<String> idealList, String animal) {
+        lock.writeLock().lock();
+        try {
+            Integer id = idByEmail.get(email);
+            if (Objects.isNull(id)) {
+                id = size++;
+                grow();
+                idByEmail.put(email, id);
+                emails[id] = email;
+            } else {
+                unindex(id);
+            }
+            nicknames[id] = nickname;
+            genders[id] = gender;
+            birthYears[id] = birthYear;
+            interests[id] = mask(interestCodes, interestList);
+            ideals[id] = mask(animalCodes, idealList);
+            Integer animalCode = code(animalCodes, animal);
+            animals[id] = Objects.nonNull(animalCode) ? animalCode : NO_ANIMAL;
+            idsByBirthYear.computeIfAbsent(birthYear, year -> new BitSet()).set(id);
+            active.set(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 추천 대상에서 뺀다. 유저 번호는 다시 추가될 때 재사용한다
+     */
+    public void remove(String email) {
+        lock.writeLock().lock();
+        try {
+            Integer id = idByEmail.get(email);
+            if (Objects.nonNull(id)) {
+                unindex(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(String email) {
+        lock.readLock().lock();
+        try {
+            Integer id = idByEmail.get(email);
+            return Objects.nonNull(id) && active.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * email 유저와 출생 연도 차이가 rangeYear 이내인 유저 중 excluded 를 제외하고 점수가 높은 순으로 최대 limit 명 반환.
+     * email 유저가 추천 대상이 아니면 빈 목록
+     */
+    public List<Entry> recommend(String email, int rangeYear, Collection<String> excluded, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Integer me = idByEmail.get(email);
+            if (Objects.isNull(me) || !active.get(me)) {
+                return List.of();
+            }
+            BitSet excludedIds = new BitSet(size);
+            excludedIds.set(me);
+            for (String excludedEmail : excluded) {
+                Integer id = idByEmail.get(excludedEmail);
+                if (Objects.nonNull(id)) {
+                    excludedIds.set(id);
+                }
+            }
+            long myInterests = interests[me];
+            long myIdeals = ideals[me];
+            int myBirthYear = birthYears[me];
+            // 점수(상위 32비트)와 번호 역순(하위 32비트)을 합친 값, 작은 값부터 꺼내는 힙
+            PriorityQueue<Long> top = new PriorityQueue<>(limit + 1);
+            for (Map.Entry<Integer, BitSet> bucket : idsByBirthYear.entrySet()) {
+                int ageGap = Math.abs(bucket.getKey() - myBirthYear);
+                if (ageGap > rangeYear) {
+                    continue;
+                }
+                BitSet ids = bucket.getValue();
+                for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+                    if (excludedIds.get(id)) {
+                        continue;
+                    }
+                    long key = (score(myInterests, myIdeals, id, ageGap) << 32) | (Integer.MAX_VALUE - id);
+                    if (top.size() < limit) {
+                        top.add(key);
+                    } else if (key > top.peek()) {
+                        top.poll();
+                        top.add(key);
+                    }
+                }
+            }
+            long[] keys = top.stream().mapToLong(Long::longValue).sorted().toArray();
+            List<Entry> entries = new ArrayList<>(keys.length);
+            for (int i = keys.length - 1; i >= 0; i--) {
+                int id = Integer.MAX_VALUE - (int) keys[i];
+                entries.add(new Entry(emails[id], nicknames[id], genders[id]));
+            }
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return active.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 관심사 일치 수 > 상대 동물상이 내 이상형인지 > 나이 차이가 적은지 순으로 비교되도록 비트 자리를 나눈다
+     */
+    private long score(long myInterests, long myIdeals, int id, int ageGap) {
+        long commonInterests = Long.bitCount(myInterests & interests[id]);
+        long idealMatch = animals[id] != NO_ANIMAL && (myIdeals & (1L << animals[id])) != 0 ? 1 : 0;
+        return (commonInterests << 17) | (idealMatch << 16) | (0xFFFF - Math.min(ageGap, 0xFFFF));
+    }
+
+    private void unindex(int id) {
+        if (!active.get(id)) {
+            return;
+        }
+        BitSet ids = idsByBirthYear.get(birthYears[id]);
+        if (Objects.nonNull(ids)) {
+            ids.clear(id);
+            if (ids.isEmpty()) {
+                idsByBirthYear.remove(birthYears[id]);
+            }
+        }
+        active.clear(id);
+    }
+
+    private static long mask(Map<String, Integer> codes, Collection<String> values) {
+        long mask = 0;
+        if (Objects.isNull(values)) {
+            return mask;
+        }
+        for (String value : values) {
+            Integer code = code(codes, value);
+            if (Objects.nonNull(code)) {
+                mask |= 1L << code;
+            }
+        }
+        return mask;
+    }
+
+    private static Integer code(Map<String, Integer> codes, String value) {
+        if (Objects.isNull(value) || value.isBlank()) {
+            return null;
+        }
+        Integer code = codes.get(value);
+        if (Objects.isNull(code) && codes.size() < MAX_CODES) {
+            code = codes.size();
+            codes.put(value, code);
+        }
+        return code;
+    }
+
+    private void grow() {
+        if (size <= emails.length) {
+            return;
+        }
+        int capacity = emails.length << 1;
+        emails = Arrays.copyOf(emails, capacity);
+        nicknames = Arrays.copyOf(nicknames, capacity);
+        genders = Arrays.copyOf(genders, capacity);
+        birthYears = Arrays.copyOf(birthYears, capacity);
+        interests = Arrays.copyOf(interests, capacity);
+        ideals = Arrays.copyOf(ideals, capacity);
+        animals = Arrays.copyOf(animals, capacity);
+    }
+
+    public record Entry(String email, String nickname, String gender) {
+    }
+}
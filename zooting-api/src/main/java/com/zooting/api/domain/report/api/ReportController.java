@@ -1,6 +1,7 @@
 package com.zooting.api.domain.report.api;
 
 import com.zooting.api.domain.report.application.ReportService;
+import com.zooting.api.domain.report.dto.ReportEscalationRes;
 import com.zooting.api.domain.report.dto.ReportReq;
 import com.zooting.api.global.common.BaseResponse;
 import com.zooting.api.global.common.code.SuccessCode;
@@ -12,10 +13,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("api/reports")
@@ -30,10 +30,21 @@ public class ReportController {
     public ResponseEntity<BaseResponse<String>> insertReport(
             @Valid @RequestBody ReportReq reportReq,
             @AuthenticationPrincipal UserDetails userDetails) {
-        reportService.insertReport(reportReq);
+        reportService.insertReport(userDetails.getUsername(), reportReq);
         return BaseResponse.success(
                 SuccessCode.INSERT_SUCCESS,
                 reportReq.nickname() + "에 대한 신고 완료"
         );
     }
+    @PreAuthorize("hasAnyRole('ADMIN')")
+    @GetMapping("/escalations")
+    @Operation(summary = "신고 검토 대기열 조회", description = "신고자 수, 신고 수가 기준을 넘은 유저를 우선순위 순으로 조회")
+    public ResponseEntity<BaseResponse<List<ReportEscalationRes>>> findEscalations(
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return BaseResponse.success(
+                SuccessCode.SELECT_SUCCESS,
+                reportService.findEscalations(page, size)
+        );
+    }
 }
@@ -1,7 +1,11 @@
 package com.zooting.api.domain.report.application;
 
+import com.zooting.api.domain.report.dto.ReportEscalationRes;
 import com.zooting.api.domain.report.dto.ReportReq;
 
+import java.util.List;
+
 public interface ReportService {
-    void insertReport(ReportReq reportReq);
+    void insertReport(String reporter, ReportReq reportReq);
+    List<ReportEscalationRes> findEscalations(int page, int size);
 }
@@ -2,20 +2,34 @@ package com.zooting.api.domain.report.application;
 
 import com.zooting.api.domain.member.dao.MemberRepository;
 import com.zooting.api.domain.member.entity.Member;
+import com.zooting.api.domain.report.dao.ReportCountRow;
+import com.zooting.api.domain.report.dao.ReportCounter;
+import com.zooting.api.domain.report.dao.ReportRedisDao;
 import com.zooting.api.domain.report.dao.ReportRepository;
+import com.zooting.api.domain.report.dto.ReportEscalationRes;
 import com.zooting.api.domain.report.dto.ReportReq;
 import com.zooting.api.domain.report.entity.ReportList;
 import com.zooting.api.global.common.code.ErrorCode;
 import com.zooting.api.global.exception.BaseExceptionHandler;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Log4j2
 @Service
 @RequiredArgsConstructor
 public class ReportServiceImpl implements ReportService{
     final private ReportRepository reportRepository;
     final private MemberRepository memberRepository;
-    public void insertReport(ReportReq reportReq) {
+    final private ReportRedisDao reportRedisDao;
+    public void insertReport(String reporter, ReportReq reportReq) {
 
         Member reportedMember = memberRepository.findMemberByNickname(reportReq.nickname())
                 .orElseThrow(() -> new BaseExceptionHandler(ErrorCode.NOT_FOUND_USER));
@@ -25,5 +39,39 @@ public class ReportServiceImpl implements ReportService{
         reportList.setMember(reportedMember);
 
         reportRepository.save(reportList);
+        // 신고 수, 신고자 수 집계 및 기준 초과 시 검토 대기열 등록
+        reportRedisDao.record(reportedMember.getEmail(), reporter);
+    }
+
+    @Override
+    public List<ReportEscalationRes> findEscalations(int page, int size) {
+        List<ReportCounter> counters = reportRedisDao.findEscalations((long) page * size, size);
+        Map<String, Member> members = memberRepository.findAllById(counters.stream().map(ReportCounter::email).toList())
+                .stream()
+                .collect(Collectors.toMap(Member::getEmail, Function.identity()));
+        return counters.stream()
+                .filter(counter -> members.containsKey(counter.email()))
+                .map(counter -> new ReportEscalationRes(
+                        counter.email(),
+                        members.get(counter.email()).getNickname(),
+                        counter.reportCount(),
+                        counter.reporterCount()
+                ))
+                .toList();
+    }
+
+    /**
+     * Redis 에 신고 수가 없으면 (최초 배포, Redis 초기화) 기존 신고 목록으로 채운다.
+     * 완료 표시는 모두 채운 뒤에 하므로 중간에 중단되면 다음 시작 때 다시 채우며, 이미 채운 유저는 SETNX 로 건너뛴다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeCounters() {
+        if (reportRedisDao.isInitialized() || !reportRedisDao.tryStartInitialization()) {
+            return;
+        }
+        List<ReportCountRow> rows = reportRepository.countGroupByMember();
+        rows.forEach(row -> reportRedisDao.initialize(row.email(), row.count()));
+        reportRedisDao.markInitialized();
+        log.info("신고 수 초기화: {}명", rows.size());
     }
 }
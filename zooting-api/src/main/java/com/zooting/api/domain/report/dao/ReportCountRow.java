@@ -0,0 +1,7 @@
+package com.zooting.api.domain.report.dao;
+
+/**
+ * 신고 수 초기화용 유저별 신고 수 projection
+ */
+public record ReportCountRow(String email, Long count) {
+}
@@ -0,0 +1,7 @@
+package com.zooting.api.domain.report.dao;
+
+/**
+ * 검토 대기열의 유저별 신고 수, 신고자 수
+ */
+public record ReportCounter(String email, long reportCount, long reporterCount) {
+}
@@ -0,0 +1,145 @@
+package com.zooting.api.domain.report.dao;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 유저별 신고 집계와 관리자 검토 대기열
+ * report:{email}:count     - 처리되지 않은 신고 수
+ * report:{email}:reporters - SET, 신고한 유저 이메일 (중복 신고 제외)
+ * report:escalation        - ZSET, member: 이메일, score: 신고자 수 * 1000000 + 신고 수 (우선순위 순 정렬)
+ * report:countInitialized  - 기존 신고 목록으로 신고 수를 모두 채웠는지 여부
+ * report:countInitializing - 신고 수를 채우는 서버 표시 (ttl), 채우다 중단되면 만료 후 다른 서버가 다시 채운다
+ * 신고자 수 또는 신고 수가 기준을 넘으면 대기열에 올리고, 이후 신고/처리 때마다 우선순위를 갱신한다.
+ */
+@Component
+public class ReportRedisDao {
+    private static final String COUNT = ":count";
+    private static final String REPORTERS = ":reporters";
+    private static final String ESCALATION_KEY = "report:escalation";
+    private static final String INITIALIZED_KEY = "report:countInitialized";
+    private static final String INITIALIZING_KEY = "report:countInitializing";
+    private static final Duration INITIALIZING_TTL = Duration.ofMinutes(10);
+    private static final long SCORE_UNIT = 1_000_000L;
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            local count = redis.call('INCR', KEYS[1])
+            redis.call('SADD', KEYS[2], ARGV[2])
+            local reporters = redis.call('SCARD', KEYS[2])
+            if reporters >= tonumber(ARGV[3]) or count >= tonumber(ARGV[4])
+                    or redis.call('ZSCORE', KEYS[3], ARGV[1]) then
+                redis.call('ZADD', KEYS[3], reporters * tonumber(ARGV[5]) + count, ARGV[1])
+            end
+            return count
+            """, Long.class);
+    // 신고 수가 0 이 되면 집계와 대기열에서 제거
+    private static final RedisScript<Long> RESOLVE_SCRIPT = new DefaultRedisScript<>("""
+            local count = redis.call('DECR', KEYS[1])
+            if count <= 0 then
+                redis.call('DEL', KEYS[1], KEYS[2])
+                redis.call('ZREM', KEYS[3], ARGV[1])
+                return 0
+            end
+            if redis.call('ZSCORE', KEYS[3], ARGV[1]) then
+                redis.call('ZADD', KEYS[3], redis.call('SCARD', KEYS[2]) * tonumber(ARGV[2]) + count, ARGV[1])
+            end
+            return count
+            """, Long.class);
+    // 기존 신고 목록은 신고자를 알 수 없으므로 신고 수만 채운다
+    private static final RedisScript<Long> INITIALIZE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SETNX', KEYS[1], ARGV[2]) == 1 and tonumber(ARGV[2]) >= tonumber(ARGV[3]) then
+                redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+            end
+            return 1
+            """, Long.class);
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final long reporterThreshold;
+    private final long countThreshold;
+
+    public ReportRedisDao(RedisTemplate<String, Object> redisTemplate,
+                          @Value("${report.escalation.reporter-threshold:3}") long reporterThreshold,
+                          @Value("${report.escalation.count-threshold:10}") long countThreshold) {
+        this.redisTemplate = redisTemplate;
+        this.reporterThreshold = reporterThreshold;
+        this.countThreshold = countThreshold;
+    }
+
+    /**
+     * 신고 1건 반영 후 처리되지 않은 신고 수를 반환
+     */
+    public Long record(String email, String reporter) {
+        return redisTemplate.execute(RECORD_SCRIPT, keys(email), email, reporter,
+                String.valueOf(reporterThreshold), String.valueOf(countThreshold), String.valueOf(SCORE_UNIT));
+    }
+
+    /**
+     * 신고 1건 처리(승인/거부) 후 남은 신고 수를 반환
+     */
+    public Long resolve(String email) {
+        return redisTemplate.execute(RESOLVE_SCRIPT, keys(email), email, String.valueOf(SCORE_UNIT));
+    }
+
+    public boolean isReported(String email) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(countKey(email)));
+    }
+
+    public boolean isInitialized() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(INITIALIZED_KEY));
+    }
+
+    /**
+     * 여러 서버 중 한 곳만 초기화하도록 표시한다. 다른 서버가 초기화 중이면 false
+     */
+    public boolean tryStartInitialization() {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(INITIALIZING_KEY, "true", INITIALIZING_TTL));
+    }
+
+    /**
+     * 모든 유저의 신고 수를 채운 뒤 표시한다
+     */
+    public void markInitialized() {
+        redisTemplate.opsForValue().set(INITIALIZED_KEY, "true");
+        redisTemplate.delete(INITIALIZING_KEY);
+    }
+
+    public void initialize(String email, long count) {
+        redisTemplate.execute(INITIALIZE_SCRIPT, List.of(countKey(email), ESCALATION_KEY),
+                email, String.valueOf(count), String.valueOf(countThreshold));
+    }
+
+    /**
+     * 우선순위가 높은 순으로 대기열 조회 (ZREVRANGE 한 번)
+     */
+    public List<ReportCounter> findEscalations(long offset, long size) {
+        Set<TypedTuple<Object>> tuples = redisTemplate.opsForZSet()
+                .reverseRangeWithScores(ESCALATION_KEY, offset, offset + size - 1);
+        if (Objects.isNull(tuples)) {
+            return List.of();
+        }
+        return tuples.stream()
+                .map(tuple -> {
+                    long score = Objects.requireNonNull(tuple.getScore()).longValue();
+                    return new ReportCounter((String) tuple.getValue(), score % SCORE_UNIT, score / SCORE_UNIT);
+                })
+                .toList();
+    }
+
+    private static List<String> keys(String email) {
+        return List.of(countKey(email), "report:" + email + REPORTERS, ESCALATION_KEY);
+    }
+
+    /**
+     * 다른 스크립트에서 신고 여부를 함께 조회할 수 있도록 키를 공개한다
+     */
+    public static String countKey(String email) {
+        return "report:" + email + COUNT;
+    }
+}
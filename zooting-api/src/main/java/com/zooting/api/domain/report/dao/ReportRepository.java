@@ -2,6 +2,11 @@ package com.zooting.api.domain.report.dao;
 
 import com.zooting.api.domain.report.entity.ReportList;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface ReportRepository extends JpaRepository<ReportList, Long> {
+    @Query("SELECT new com.zooting.api.domain.report.dao.ReportCountRow(r.member.email, COUNT(r)) FROM ReportList r GROUP BY r.member.email")
+    List<ReportCountRow> countGroupByMember();
 }
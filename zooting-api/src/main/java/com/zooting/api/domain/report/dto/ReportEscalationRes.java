@@ -0,0 +1,16 @@
+package com.zooting.api.domain.report.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "신고 검토 대기열 조회 시 DTO")
+public record ReportEscalationRes(
+        @Schema(description = "신고 대상 이메일")
+        String email,
+        @Schema(description = "신고 대상 닉네임")
+        String nickname,
+        @Schema(description = "처리되지 않은 신고 수")
+        long reportCount,
+        @Schema(description = "신고한 유저 수")
+        long reporterCount
+) {
+}
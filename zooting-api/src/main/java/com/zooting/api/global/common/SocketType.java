@@ -1,5 +1,5 @@
 package com.zooting.api.global.common;
 
 public enum SocketType {
-    MESSAGE, MATCH, OPENVIDU, HEARTBEAT, MEETING, PICK, ONETOONE, REJECT
+    MESSAGE, MATCH, OPENVIDU, HEARTBEAT, MEETING, PICK, ONETOONE, REJECT, READ
 }
@@ -71,6 +71,7 @@ public enum ErrorCode {
     EXPIRED_REFRESH_TOKEN_EXCEPTION(403, "B106", "만료된 REFRESH TOKEN 입니다."),
     INCONSISTENT_REFRESH_TOKEN_EXCEPTION(403, "B107", "일치하지 않는 REFRESH TOKEN 입니다."),
     ILLEGAL_TOKEN_EXCEPTION(403, "B107", "헤더에 토큰 정보가 존재하지 않습니다."),
+    SUSPENDED_MEMBER_EXCEPTION(403, "B108", "활동이 정지된 유저입니다."),
 
     // 유저 에러 (CODE: 200)
     // 유저가 존재하지 않음
@@ -84,6 +85,7 @@ public enum ErrorCode {
     NOT_FOUND_RESTAURANT(404, "B400", "존재하지 않는 음식점 입니다."),
     // S3 File 에러 (CODE: 900)
     NOT_FOUND_S3FILE(404, "B900", "존재하지 않는 S3 파일입니다."),
+    NOT_IMAGE_FILE(400, "B901", "이미지로 변환할 수 없는 파일입니다."),
     // 친구 요청 에러 (CODE: 201)
     ALREADY_EXIST_FRIEND_REQUEST(404,"B201" ,"이미 요청을 보냈습니다" ),
     // 친구 에러 (CODE: 202)
@@ -1,6 +1,11 @@
 package com.zooting.api.global.config;
 
+import com.zooting.api.global.websocket.StompAuthChannelInterceptor;
+import com.zooting.api.global.websocket.StompRedisRelay;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -8,7 +13,11 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 
 @Configuration
 @EnableWebSocketMessageBroker // STOMP를 사용할 수 있게 해주는 어노테이션
+@RequiredArgsConstructor
 public class DMWebSocketConfig implements WebSocketMessageBrokerConfigurer {
+    private final ObjectProvider<StompRedisRelay> stompRedisRelay;
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+
     /**
      * 소켓 연결을 위해 사용할 엔드포인트 등록과 cors 오류 방지를 위해 허용할 Origin을 등록해둔다.
      * 엔드포인트: /ws
@@ -26,10 +35,20 @@ public class DMWebSocketConfig implements WebSocketMessageBrokerConfigurer {
     /**
      *  /sub 엔드포인트를 활용하여 구독 ex) api/sub/dm/{receiver}
      *  /pub 엔드포인트를 활용하여 전송 ex) api/pub/dm/message
+     *  websocket.broker.mode=redis 이면 /sub 메시지를 Redis 로 다른 서버에도 중계
      */
     @Override
     public void configureMessageBroker(MessageBrokerRegistry brokerRegistry) {
         brokerRegistry.enableSimpleBroker("/api/sub");
         brokerRegistry.setApplicationDestinationPrefixes("/api/pub");
+        stompRedisRelay.ifAvailable(relay -> brokerRegistry.configureBrokerChannel().interceptors(relay));
+    }
+
+    /**
+     * 클라이언트에서 들어오는 STOMP 프레임(CONNECT, SUBSCRIBE, SEND)을 인증/인가한다
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
     }
 }
@@ -5,11 +5,18 @@ import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.Executors;
+
 @Configuration
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
 public class S3Config {
     @Value("${cloud.aws.credentials.access-key}")
     private String accessKey;
@@ -18,6 +25,14 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    @Value("${cloud.aws.s3.upload.threads:16}")
+    private int uploadThreads;
+    @Value("${cloud.aws.s3.upload.multipart-threshold:16777216}")
+    private long multipartThreshold;
+    @Value("${cloud.aws.s3.upload.part-size:8388608}")
+    private long partSize;
+    private TransferManager transferManager;
+
     @Bean
     public AmazonS3 amazonS3() {
         AWSCredentials awsCredentials = new BasicAWSCredentials(accessKey, secretKey);
@@ -26,4 +41,30 @@ public class S3Config {
                 .withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
                 .build();
     }
+
+    /**
+     * 여러 파일, multipart part 업로드를 제한된 스레드 풀에서 병렬로 처리
+     * 종료는 shutdown 에서 처리하므로 shutdownNow 추론을 끈다
+     */
+    @Bean(destroyMethod = "")
+    public TransferManager transferManager(AmazonS3 amazonS3) {
+        transferManager = TransferManagerBuilder.standard()
+                .withS3Client(amazonS3)
+                .withExecutorFactory(() -> Executors.newFixedThreadPool(uploadThreads))
+                .withMultipartUploadThreshold(multipartThreshold)
+                .withMinimumUploadPartSize(partSize)
+                .build();
+        return transferManager;
+    }
+
+    /**
+     * 설정 빈은 여기서 만든 빈과 그 빈을 사용하는 빈들이 모두 정리된 뒤에 정리된다.
+     * shutdownNow() 는 공유 AmazonS3 클라이언트까지 종료하므로 스레드 풀만 종료하고 클라이언트는 amazonS3 빈에 맡긴다
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (transferManager != null) {
+            transferManager.shutdownNow(false);
+        }
+    }
 }
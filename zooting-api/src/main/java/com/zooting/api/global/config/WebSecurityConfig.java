@@ -1,5 +1,6 @@
 package com.zooting.api.global.config;
 
+import com.zooting.api.domain.disabled.application.SuspensionRegistry;
 import com.zooting.api.global.jwt.JwtAuthenticateFilter;
 import com.zooting.api.global.jwt.service.JwtService;
 import com.zooting.api.global.security.handler.CustomOAuth2FailHandler;
@@ -31,12 +32,13 @@ public class WebSecurityConfig {
             "/error", "/login", "/favicon.ico",
             "/health", "/api-docs/**", "/swagger-ui/**",
             "/swagger-resources/**", "/swagger-ui.html", "/api/token/**",
-            "/ws/**", "/api/sub/**", "/api/pub/**"
+            "/ws/**", "/api/sub/**", "/api/pub/**", "/api/file/local/**"
     };
     private final CustomOAuth2UserService customOAuth2UserService;
     private final CustomOAuth2FailHandler customOAuth2FailHandler;
     private final CustomOAuth2SuccessHandler customOAuth2SuccessHandler;
     private final JwtService jwtService;
+    private final SuspensionRegistry suspensionRegistry;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -57,7 +59,7 @@ public class WebSecurityConfig {
 
     @Bean
     public JwtAuthenticateFilter jwtAuthenticateFilter() {
-        return new JwtAuthenticateFilter(jwtService, URL_WHITE_LIST);
+        return new JwtAuthenticateFilter(jwtService, suspensionRegistry, URL_WHITE_LIST);
     }
 
     // CORS 설정
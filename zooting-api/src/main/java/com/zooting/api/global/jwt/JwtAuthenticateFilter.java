@@ -1,6 +1,7 @@
 package com.zooting.api.global.jwt;
 
 import com.google.gson.Gson;
+import com.zooting.api.domain.disabled.application.SuspensionRegistry;
 import com.zooting.api.global.common.ErrorResponse;
 import com.zooting.api.global.common.code.ErrorCode;
 import com.zooting.api.global.jwt.service.JwtService;
@@ -26,6 +27,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticateFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
+    private final SuspensionRegistry suspensionRegistry;
     private final String[] URL_WHITE_LIST;
 
     @Override
@@ -44,6 +46,11 @@ public class JwtAuthenticateFilter extends OncePerRequestFilter {
         try {
             log.trace("유저의 토큰을 검증합니다.");
             Authentication authentication = jwtService.authenticateAccessToken(request);
+            if (suspensionRegistry.isSuspended(authentication.getName())) {
+                log.trace("활동이 정지된 유저입니다.");
+                sendJwtErrorResponse(ErrorCode.SUSPENDED_MEMBER_EXCEPTION, response);
+                return;
+            }
 
             log.trace("유저의 토큰이 검증되었습니다. 유저를 SecurityContextHolder에 저장합니다.");
             SecurityContextHolder.getContext().setAuthentication(authentication);
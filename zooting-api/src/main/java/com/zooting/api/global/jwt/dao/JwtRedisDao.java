@@ -1,20 +1,76 @@
 package com.zooting.api.global.jwt.dao;
 
-import java.util.concurrent.TimeUnit;
+import com.zooting.api.global.jwt.dto.RefreshTokenClaims;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+/**
+ * Refresh Token 과 Access Token 재발급에 필요한 유저 정보를 함께 보관한다.
+ * refresh-token:{email} - HASH, token / nickname / privileges(쉼표 구분)
+ * (이전 형식의 refresh-token/{email} STRING 키는 만료되면 사라진다)
+ */
 @Component
 @RequiredArgsConstructor
 public class JwtRedisDao {
+    private static final String REFRESH_HASH = "refresh-token:";
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], 'token', ARGV[1], 'nickname', ARGV[2], 'privileges', ARGV[3])
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            return 1
+            """, Long.class);
+    // 저장된 토큰이 요청 토큰과 같을 때만 새 토큰으로 교체 (CAS), 교체되면 저장된 유저 정보 반환
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'token') ~= ARGV[1] then
+                return nil
+            end
+            redis.call('HSET', KEYS[1], 'token', ARGV[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return redis.call('HMGET', KEYS[1], 'nickname', 'privileges')
+            """, List.class);
+    // 로그인 중인 유저만 갱신
+    private static final RedisScript<Long> UPDATE_NICKNAME_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'nickname', ARGV[1])
+            return 1
+            """, Long.class);
     private final StringRedisTemplate redisTemplate;
-    private static final String REFRESH_HASH = "refresh-token/";
 
-    public void save(String email, String refreshToken, long expireTime) {
-        redisTemplate.opsForValue().set(REFRESH_HASH + email, refreshToken, expireTime, TimeUnit.SECONDS);
+    public void save(String email, String refreshToken, String nickname, List<String> privileges, long expireTime) {
+        redisTemplate.execute(SAVE_SCRIPT, List.of(REFRESH_HASH + email),
+                refreshToken, Objects.requireNonNullElse(nickname, ""), String.join(",", privileges),
+                String.valueOf(expireTime));
     }
-    public String get(String email) {
-        return redisTemplate.opsForValue().get(REFRESH_HASH + email);
+
+    /**
+     * 한 번의 스크립트 실행으로 Refresh Token 을 교체한다. 동시에 같은 토큰으로 요청하면 하나만 성공한다.
+     *
+     * @return 교체에 성공하면 저장된 유저 정보, 토큰이 일치하지 않으면 null
+     */
+    public RefreshTokenClaims rotate(String email, String refreshToken, String newRefreshToken, long expireTime) {
+        List<?> result = redisTemplate.execute(ROTATE_SCRIPT, List.of(REFRESH_HASH + email),
+                refreshToken, newRefreshToken, String.valueOf(expireTime));
+        if (Objects.isNull(result) || result.size() < 2) {
+            return null;
+        }
+        String nickname = (String) result.get(0);
+        String privileges = (String) result.get(1);
+        return new RefreshTokenClaims(
+                Objects.isNull(nickname) || nickname.isEmpty() ? null : nickname,
+                Objects.isNull(privileges) || privileges.isEmpty() ? List.of() : Arrays.asList(privileges.split(","))
+        );
+    }
+
+    public void updateNickname(String email, String nickname) {
+        redisTemplate.execute(UPDATE_NICKNAME_SCRIPT, List.of(REFRESH_HASH + email), nickname);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,12 @@
+package com.zooting.api.global.jwt.dto;
+
+import java.util.List;
+
+/**
+ * Refresh Token 과 함께 Redis 에 보관하는 Access Token 재발급용 유저 정보
+ */
+public record RefreshTokenClaims(
+        String nickname,
+        List<String> privileges
+) {
+}
@@ -3,15 +3,18 @@ package com.zooting.api.global.jwt.service;
 import com.zooting.api.global.common.code.ErrorCode;
 import com.zooting.api.global.exception.BaseExceptionHandler;
 import com.zooting.api.global.jwt.dao.JwtRedisDao;
+import com.zooting.api.global.jwt.dto.RefreshTokenClaims;
 import com.zooting.api.global.jwt.dto.TokenDto;
 import com.zooting.api.global.security.userdetails.CustomUserDetails;
-import com.zooting.api.global.security.userdetails.service.CustomUserDetailsService;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Date;
+import java.util.Objects;
+import java.util.UUID;
 import javax.crypto.SecretKey;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Value;
@@ -19,8 +22,11 @@ import org.springframework.http.ResponseCookie;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Log4j2
 @Service
@@ -30,19 +36,22 @@ public class JwtService {
     private static final String TOKEN_PREFIX = "Bearer ";
     private final String issuer;
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
     private final JwtRedisDao jwtRedisDao;
-    private final CustomUserDetailsService userDetailsService;
 
-    public JwtService(JwtRedisDao jwtRedisDao, CustomUserDetailsService userDetailsService,
+    public JwtService(JwtRedisDao jwtRedisDao,
             @Value("${jwt.issuer}") String issuer, @Value("${jwt.secretKey}") String secretKey,
             @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
-            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration) {
+            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration,
+            @Value("${jwt.verified-cache-size:10000}") int verifiedCacheSize) {
         this.jwtRedisDao = jwtRedisDao;
         this.issuer = issuer;
-        this.userDetailsService = userDetailsService;
         this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.jwtParser = Jwts.parser().verifyWith(this.secretKey).build();
+        this.verifiedTokenCache = new VerifiedTokenCache(verifiedCacheSize);
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
     }
@@ -54,7 +63,16 @@ public class JwtService {
      * @return Access Token에 있던 유저 정보를 기반으로 한 인증 객체
      */
     public Authentication authenticateAccessToken(HttpServletRequest request) {
-        String token = requestHeaderJwtParser(request);
+        return authenticateAccessToken(requestHeaderJwtParser(request));
+    }
+
+    /**
+     * Access Token 을 검증하고 토큰의 유저 정보(이메일, 닉네임, 권한)로 인증 객체를 만든다.
+     *
+     * @param token Bearer 를 제외한 Access Token
+     * @return Access Token에 있던 유저 정보를 기반으로 한 인증 객체
+     */
+    public Authentication authenticateAccessToken(String token) {
         Claims claims = verifyJwtToken(token);
 
         log.trace("토큰의 Claims에 저장된 닉네임:" + claims.get("nickname"));
@@ -73,9 +91,18 @@ public class JwtService {
      * @return Request Header에서 가져온  Access Token 정보
      */
     public String requestHeaderJwtParser(HttpServletRequest request) {
-        String token = request.getHeader(ACCESS_HEADER_AUTHORIZATION);
-        if (token != null && token.startsWith(TOKEN_PREFIX)) {
-            return token.substring(7);
+        return stripTokenPrefix(request.getHeader(ACCESS_HEADER_AUTHORIZATION));
+    }
+
+    /**
+     * Authorization 헤더 값에서 Bearer 를 제외한 토큰을 가져온다.
+     *
+     * @param authorization Authorization 헤더 값
+     * @return Access Token, 형식이 맞지 않으면 null
+     */
+    public String stripTokenPrefix(String authorization) {
+        if (authorization != null && authorization.startsWith(TOKEN_PREFIX)) {
+            return authorization.substring(TOKEN_PREFIX.length());
         }
         return null;
     }
@@ -90,42 +117,84 @@ public class JwtService {
                 .compact();
     }
 
+    /**
+     * Refresh Token 을 발급하고, Access Token 재발급에 필요한 닉네임과 권한을 함께 Redis 에 저장한다.
+     */
     public String createRefreshToken(CustomUserDetails userDetails) {
-        Date date = new Date();
-        Date expirationDate = new Date(date.getTime() + refreshTokenExpiration * 1000);
-
-        String refreshToken = Jwts.builder().signWith(secretKey, Jwts.SIG.HS256).issuer(issuer)
-                .expiration(expirationDate).subject(userDetails.getUsername())
-                .claim("nickname", userDetails.getNickname()).compact();
-
-        jwtRedisDao.save(userDetails.getEmail(), refreshToken, refreshTokenExpiration);
+        String refreshToken = buildRefreshToken(userDetails.getUsername(), userDetails.getNickname());
+        jwtRedisDao.save(userDetails.getEmail(), refreshToken, userDetails.getNickname(),
+                userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList(),
+                refreshTokenExpiration);
         return refreshToken;
     }
 
+    /**
+     * Redis 에 저장된 Refresh Token 과 일치할 때만 새 토큰으로 교체한다 (스크립트 한 번, DB 조회 없음).
+     * 동시에 같은 Refresh Token 으로 요청하면 먼저 교체한 요청만 성공한다.
+     */
     public TokenDto rotateJwtTokens(String refreshToken) {
-        Claims claims = verifyJwtToken(refreshToken);
+        // Refresh Token 은 한 번만 쓰이므로 검증 캐시를 거치지 않는다
+        Claims claims = jwtParser.parseSignedClaims(refreshToken).getPayload();
         String email = claims.getSubject();
-        String refreshTokenInServer = jwtRedisDao.get(email);
-
-        CustomUserDetails userDetails = userDetailsService.loadUserByUsername(email);
 
         log.trace("Refresh Token Rotation 요청이 들어왔습니다.");
 
-        if (refreshTokenInServer.equals(refreshToken)) {
-            log.trace("요청의 Refresh Token이 Redis에 저장된 값과 일치합니다.");
-            String newAccessToken = createAccessToken(userDetails);
-            String newRefreshToken = createRefreshToken(userDetails);
-            jwtRedisDao.save(email, newRefreshToken, refreshTokenExpiration);
-
-            return new TokenDto(newAccessToken, newRefreshToken);
-        } else {
+        String newRefreshToken = buildRefreshToken(email, (String) claims.get("nickname"));
+        RefreshTokenClaims refreshTokenClaims = jwtRedisDao.rotate(email, refreshToken, newRefreshToken,
+                refreshTokenExpiration);
+        if (Objects.isNull(refreshTokenClaims)) {
             throw new BaseExceptionHandler(ErrorCode.INCONSISTENT_REFRESH_TOKEN_EXCEPTION);
         }
+        log.trace("요청의 Refresh Token이 Redis에 저장된 값과 일치합니다.");
+        CustomUserDetails userDetails = CustomUserDetails.builder().email(email)
+                .nickname(refreshTokenClaims.nickname())
+                .authorities(refreshTokenClaims.privileges().stream().map(SimpleGrantedAuthority::new).toList())
+                .build();
+        return new TokenDto(createAccessToken(userDetails), newRefreshToken);
+    }
+
+    /**
+     * 닉네임이 바뀌면 다음 Access Token 재발급에 반영되도록 저장된 유저 정보를 갱신한다.
+     * 트랜잭션 안에서 호출되면 롤백된 닉네임이 토큰에 실리지 않도록 커밋된 이후에 반영한다
+     */
+    public void updateTokenNickname(String email, String nickname) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            jwtRedisDao.updateNickname(email, nickname);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                jwtRedisDao.updateNickname(email, nickname);
+            }
+        });
     }
 
+    // 같은 초에 발급해도 토큰이 달라지도록 id(jti)를 넣는다
+    private String buildRefreshToken(String email, String nickname) {
+        Date date = new Date();
+        Date expirationDate = new Date(date.getTime() + refreshTokenExpiration * 1000);
+
+        return Jwts.builder().signWith(secretKey, Jwts.SIG.HS256).issuer(issuer).id(UUID.randomUUID().toString())
+                .expiration(expirationDate).subject(email)
+                .claim("nickname", nickname).compact();
+    }
+
+    /**
+     * 토큰의 서명과 만료 시각을 검증하고 Claims 를 반환한다.
+     * 이미 검증한 토큰은 만료 전까지 캐시된 Claims 를 그대로 사용한다.
+     */
     public Claims verifyJwtToken(String token) {
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token) // Throws JWT Exception
+        if (token != null) {
+            Claims cached = verifiedTokenCache.get(token, System.currentTimeMillis());
+            if (cached != null) {
+                return cached;
+            }
+        }
+        Claims claims = jwtParser.parseSignedClaims(token) // Throws JWT Exception
                 .getPayload();
+        verifiedTokenCache.put(token, claims);
+        return claims;
     }
 
     public ResponseCookie buildResponseCookie(String refreshToken) {
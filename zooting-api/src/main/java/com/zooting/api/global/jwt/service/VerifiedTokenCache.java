@@ -0,0 +1,64 @@
+package com.zooting.api.global.jwt.service;
+
+import io.jsonwebtoken.Claims;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 서명 검증을 마친 토큰의 Claims 캐시 (LRU).
+ * 토큰의 서명 부분(HMAC-SHA256 값)을 key 로 쓰고 토큰 전체가 같을 때만 반환하므로,
+ * 같은 Access Token 으로 다시 요청하면 서명 검증과 Claims JSON 파싱을 건너뛴다.
+ * 만료 시각이 지난 항목은 반환하지 않아 만료 처리는 parser 가 그대로 담당한다.
+ */
+public class VerifiedTokenCache {
+    private final Map<String, Entry> entries;
+
+    public VerifiedTokenCache(int maxSize) {
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    public Claims get(String token, long now) {
+        String key = signatureOf(token);
+        if (key == null) {
+            return null;
+        }
+        Entry entry = entries.get(key);
+        if (entry == null || !entry.token().equals(token)) {
+            return null;
+        }
+        if (entry.expiresAt() <= now) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.claims();
+    }
+
+    public void put(String token, Claims claims) {
+        String key = signatureOf(token);
+        Date expiration = claims.getExpiration();
+        // 만료 시각이 없는 토큰은 캐시하지 않는다
+        if (key == null || expiration == null) {
+            return;
+        }
+        entries.put(key, new Entry(token, claims, expiration.getTime()));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static String signatureOf(String token) {
+        int separator = token.lastIndexOf('.');
+        return separator >= 0 && separator < token.length() - 1 ? token.substring(separator + 1) : null;
+    }
+
+    private record Entry(String token, Claims claims, long expiresAt) {
+    }
+}
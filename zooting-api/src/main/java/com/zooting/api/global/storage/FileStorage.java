@@ -0,0 +1,47 @@
+package com.zooting.api.global.storage;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+
+/**
+ * 파일 저장소. storage.type 에 따라 S3(s3, 기본값) 또는 로컬 디스크(local) 구현이 등록된다.
+ * key 는 "폴더/파일명" 형식의 저장소 내 경로
+ */
+public interface FileStorage {
+    /**
+     * 업로드를 시작하고 완료를 기다릴 수 있는 핸들을 반환 (공개 읽기)
+     */
+    StorageUpload upload(String key, MultipartFile multipartFile) throws IOException;
+
+    void put(String key, byte[] data, String contentType, boolean publicRead);
+
+    String getUrl(String key);
+
+    StorageObject getObject(String key);
+
+    InputStream openStream(String key) throws IOException;
+
+    /**
+     * start, end 가 있으면 해당 byte 범위(양 끝 포함)만 outputStream 으로 보낸다
+     */
+    void write(String key, Long start, Long end, OutputStream outputStream) throws IOException;
+
+    /**
+     * prefix 아래의 모든 파일을 삭제
+     */
+    void removeAll(String prefix);
+
+    /**
+     * 클라이언트가 API 서버를 거치지 않고 직접 업로드(PUT)할 수 있는 서명 URL (공개 읽기)
+     */
+    PresignedUrl presignUpload(String key, String contentType, Duration expiration);
+
+    /**
+     * 클라이언트가 직접 다운로드(GET)할 수 있는 서명 URL
+     */
+    PresignedUrl presignDownload(String key, String originFileName, Duration expiration);
+}
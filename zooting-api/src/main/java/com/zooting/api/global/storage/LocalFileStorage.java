@@ -0,0 +1,257 @@
+package com.zooting.api.global.storage;
+
+import com.zooting.api.global.common.code.ErrorCode;
+import com.zooting.api.global.exception.BaseExceptionHandler;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.util.UriUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 디스크 저장소 (온프레미스, CI, 부하 테스트용)
+ * 공개 파일은 public, 비공개 파일은 private 디렉터리에 저장하며 public 아래 파일만 LocalFileController 로 제공된다.
+ * 다운로드는 FileChannel.transferTo, 내부 읽기는 memory-mapped 버퍼로 힙 복사 없이 처리
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalFileStorage implements FileStorage {
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private final Path publicDir;
+    private final Path privateDir;
+    private final String baseUrl;
+    private final SecretKeySpec presignKey;
+
+    public LocalFileStorage(@Value("${storage.local.base-dir:./storage}") String baseDir,
+                            @Value("${storage.local.base-url:http://localhost:8080/api/file/local/}") String baseUrl,
+                            @Value("${storage.local.presign-secret}") String presignSecret) {
+        Path root = Paths.get(baseDir).toAbsolutePath().normalize();
+        this.publicDir = root.resolve("public");
+        this.privateDir = root.resolve("private");
+        this.baseUrl = baseUrl;
+        this.presignKey = new SecretKeySpec(presignSecret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+    }
+
+    @Override
+    public StorageUpload upload(String key, MultipartFile multipartFile) throws IOException {
+        Path file = resolve(publicDir, key);
+        Files.createDirectories(file.getParent());
+        // 디스크에 임시 저장된 multipart 파일은 복사 없이 이동된다
+        multipartFile.transferTo(file.toFile());
+        return StorageUpload.completed();
+    }
+
+    @Override
+    public void put(String key, byte[] data, String contentType, boolean publicRead) {
+        Path file = resolve(publicRead ? publicDir : privateDir, key);
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(tmp, data);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new BaseExceptionHandler(ErrorCode.FAILED_TO_UPLOAD_LOCAL_FILE, e.getMessage());
+        }
+    }
+
+    @Override
+    public String getUrl(String key) {
+        return baseUrl + UriUtils.encodePath(key, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public StorageObject getObject(String key) {
+        Path file = locate(key);
+        try {
+            long size = Files.size(file);
+            long lastModified = Files.getLastModifiedTime(file).toMillis();
+            // 파일 내용은 바뀌지 않으므로 수정 시각과 크기로 ETag 를 만든다
+            return new StorageObject(size, Long.toHexString(lastModified) + "-" + Long.toHexString(size), lastModified);
+        } catch (IOException e) {
+            throw new BaseExceptionHandler(ErrorCode.NOT_FOUND_S3FILE);
+        }
+    }
+
+    @Override
+    public InputStream openStream(String key) throws IOException {
+        try (FileChannel channel = FileChannel.open(locate(key), StandardOpenOption.READ)) {
+            return new MappedInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    @Override
+    public void write(String key, Long start, Long end, OutputStream outputStream) throws IOException {
+        try (FileChannel channel = FileChannel.open(locate(key), StandardOpenOption.READ)) {
+            long position = start != null ? start : 0;
+            long count = (end != null ? end + 1 : channel.size()) - position;
+            WritableByteChannel target = Channels.newChannel(outputStream);
+            while (count > 0) {
+                long transferred = channel.transferTo(position, count, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                count -= transferred;
+            }
+        }
+    }
+
+    @Override
+    public void removeAll(String prefix) {
+        for (Path dir : new Path[]{publicDir, privateDir}) {
+            Path target = resolve(dir, prefix);
+            if (!Files.exists(target)) {
+                continue;
+            }
+            try (Stream<Path> paths = Files.walk(target)) {
+                paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            } catch (IOException e) {
+                log.warn("로컬 파일 삭제 실패: {}", target, e);
+            }
+        }
+    }
+
+    /**
+     * S3 presigned URL 대용. LocalFileController 의 /presigned 경로로 method, key, 만료 시각을 HMAC 서명하여 전달
+     */
+    @Override
+    public PresignedUrl presignUpload(String key, String contentType, Duration expiration) {
+        long expiresAt = System.currentTimeMillis() + expiration.toMillis();
+        return new PresignedUrl(presignedUrl("PUT", key, expiresAt), Map.of(HttpHeaders.CONTENT_TYPE, contentType), expiresAt);
+    }
+
+    @Override
+    public PresignedUrl presignDownload(String key, String originFileName, Duration expiration) {
+        long expiresAt = System.currentTimeMillis() + expiration.toMillis();
+        return new PresignedUrl(presignedUrl("GET", key, expiresAt), Map.of(), expiresAt);
+    }
+
+    public boolean verifySignature(String method, String key, long expiresAt, String signature) {
+        if (signature == null || expiresAt < System.currentTimeMillis()) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                sign(method, key, expiresAt).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * presigned PUT 으로 받은 본문을 public 아래에 저장
+     */
+    public void save(String key, InputStream inputStream) throws IOException {
+        Path file = resolve(publicDir, key);
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.createDirectories(file.getParent());
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+             ReadableByteChannel source = Channels.newChannel(inputStream)) {
+            long position = 0;
+            long transferred;
+            while ((transferred = channel.transferFrom(source, position, 1 << 20)) > 0) {
+                position += transferred;
+            }
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private String presignedUrl(String method, String key, long expiresAt) {
+        return baseUrl + "presigned/" + UriUtils.encodePath(key, StandardCharsets.UTF_8)
+                + "?expires=" + expiresAt + "&signature=" + sign(method, key, expiresAt);
+    }
+
+    private String sign(String method, String key, long expiresAt) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(presignKey);
+            byte[] signature = mac.doFinal((method + "\n" + key + "\n" + expiresAt).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * public 아래의 파일 경로, 없으면 null
+     */
+    public Path findPublicFile(String key) {
+        Path file = resolve(publicDir, key);
+        return Files.isRegularFile(file) ? file : null;
+    }
+
+    private Path locate(String key) {
+        Path file = resolve(privateDir, key);
+        if (Files.isRegularFile(file)) {
+            return file;
+        }
+        file = resolve(publicDir, key);
+        if (Files.isRegularFile(file)) {
+            return file;
+        }
+        throw new BaseExceptionHandler(ErrorCode.NOT_FOUND_S3FILE);
+    }
+
+    // key 에 ../ 등이 포함되어 저장소 밖을 가리키지 않도록 확인
+    private Path resolve(Path dir, String key) {
+        Path file = dir.resolve(key).normalize();
+        if (!file.startsWith(dir)) {
+            throw new BaseExceptionHandler(ErrorCode.BAD_REQUEST_ERROR);
+        }
+        return file;
+    }
+
+    private static class MappedInputStream extends InputStream {
+        private final MappedByteBuffer buffer;
+
+        MappedInputStream(MappedByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int read = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, read);
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
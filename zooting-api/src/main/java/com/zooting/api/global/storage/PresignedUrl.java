@@ -0,0 +1,13 @@
+package com.zooting.api.global.storage;
+
+import java.util.Map;
+
+/**
+ * 저장소 직접 업로드/다운로드용 서명 URL. headers 는 요청 시 그대로 보내야 하는 헤더
+ */
+public record PresignedUrl(
+        String url,
+        Map<String, String> headers,
+        long expiresAt
+) {
+}
@@ -0,0 +1,196 @@
+package com.zooting.api.global.storage;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.*;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.Upload;
+import com.zooting.api.global.common.code.ErrorCode;
+import com.zooting.api.global.exception.BaseExceptionHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ContentDisposition;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3FileStorage implements FileStorage {
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+    @Value("${cloud.aws.s3.upload.multipart-threshold:16777216}")
+    private long multipartThreshold;
+    private final AmazonS3 amazonS3;
+    private final TransferManager transferManager;
+
+    /**
+     * multipart 기준 크기 이상인 파일은 임시 파일로 옮겨, TransferManager 가 part 들을 병렬로 읽어 업로드할 수 있게 한다
+     */
+    @Override
+    public StorageUpload upload(String key, MultipartFile multipartFile) throws IOException {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(multipartFile.getSize());
+        objectMetadata.setContentType(multipartFile.getContentType());
+        if (multipartFile.getSize() < multipartThreshold) {
+            return new S3Upload(transferManager.upload(new PutObjectRequest(bucket, key, multipartFile.getInputStream(), objectMetadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead)), null);
+        }
+        Path tempFile = Files.createTempFile("upload-", ".tmp");
+        try {
+            multipartFile.transferTo(tempFile);
+            return new S3Upload(transferManager.upload(new PutObjectRequest(bucket, key, tempFile.toFile())
+                    .withMetadata(objectMetadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead)), tempFile);
+        } catch (IOException | AmazonClientException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
+    @Override
+    public void put(String key, byte[] data, String contentType, boolean publicRead) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(data.length);
+        objectMetadata.setContentType(contentType);
+        PutObjectRequest putObjectRequest = new PutObjectRequest(bucket, key, new ByteArrayInputStream(data), objectMetadata);
+        if (publicRead) {
+            putObjectRequest.withCannedAcl(CannedAccessControlList.PublicRead);
+        }
+        amazonS3.putObject(putObjectRequest);
+    }
+
+    @Override
+    public String getUrl(String key) {
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+
+    @Override
+    public StorageObject getObject(String key) {
+        try {
+            ObjectMetadata objectMetadata = amazonS3.getObjectMetadata(bucket, key);
+            return new StorageObject(
+                    objectMetadata.getContentLength(),
+                    objectMetadata.getETag(),
+                    objectMetadata.getLastModified() != null ? objectMetadata.getLastModified().getTime() : -1
+            );
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                throw new BaseExceptionHandler(ErrorCode.NOT_FOUND_S3FILE);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream openStream(String key) {
+        return amazonS3.getObject(bucket, key).getObjectContent();
+    }
+
+    @Override
+    public void write(String key, Long start, Long end, OutputStream outputStream) throws IOException {
+        GetObjectRequest getObjectRequest = new GetObjectRequest(bucket, key);
+        if (start != null) {
+            getObjectRequest.setRange(start, end);
+        }
+        try (S3Object object = amazonS3.getObject(getObjectRequest);
+             InputStream objectInputStream = object.getObjectContent()) {
+            objectInputStream.transferTo(outputStream);
+        }
+    }
+
+    /**
+     * 목록 조회 한 페이지(최대 1000개) 당 DeleteObjects 요청 한 번으로 삭제
+     */
+    @Override
+    public void removeAll(String prefix) {
+        ListObjectsV2Request listObjectsRequest = new ListObjectsV2Request()
+                .withBucketName(bucket)
+                .withPrefix(prefix);
+        ListObjectsV2Result result;
+        do {
+            result = amazonS3.listObjectsV2(listObjectsRequest);
+            List<DeleteObjectsRequest.KeyVersion> keys = result.getObjectSummaries()
+                    .stream()
+                    .map(summary -> new DeleteObjectsRequest.KeyVersion(summary.getKey()))
+                    .toList();
+            if (!keys.isEmpty()) {
+                amazonS3.deleteObjects(new DeleteObjectsRequest(bucket).withKeys(keys).withQuiet(true));
+            }
+            listObjectsRequest.setContinuationToken(result.getNextContinuationToken());
+        } while (result.isTruncated());
+    }
+
+    @Override
+    public PresignedUrl presignUpload(String key, String contentType, Duration expiration) {
+        Date expiresAt = new Date(System.currentTimeMillis() + expiration.toMillis());
+        GeneratePresignedUrlRequest presignedUrlRequest = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                .withExpiration(expiresAt)
+                .withContentType(contentType);
+        // 기존 업로드와 같이 public-read 로 저장되도록 ACL 헤더도 서명에 포함
+        presignedUrlRequest.putCustomRequestHeader(Headers.S3_CANNED_ACL, CannedAccessControlList.PublicRead.toString());
+        return new PresignedUrl(
+                amazonS3.generatePresignedUrl(presignedUrlRequest).toString(),
+                Map.of(Headers.CONTENT_TYPE, contentType, Headers.S3_CANNED_ACL, CannedAccessControlList.PublicRead.toString()),
+                expiresAt.getTime()
+        );
+    }
+
+    @Override
+    public PresignedUrl presignDownload(String key, String originFileName, Duration expiration) {
+        Date expiresAt = new Date(System.currentTimeMillis() + expiration.toMillis());
+        GeneratePresignedUrlRequest presignedUrlRequest = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.GET)
+                .withExpiration(expiresAt)
+                .withResponseHeaders(new ResponseHeaderOverrides().withContentDisposition(
+                        ContentDisposition.attachment().filename(originFileName, StandardCharsets.UTF_8).build().toString()));
+        return new PresignedUrl(amazonS3.generatePresignedUrl(presignedUrlRequest).toString(), Map.of(), expiresAt.getTime());
+    }
+
+    private record S3Upload(Upload upload, Path tempFile) implements StorageUpload {
+        @Override
+        public void waitForCompletion() throws InterruptedException {
+            try {
+                upload.waitForCompletion();
+            } catch (AmazonClientException e) {
+                log.error("S3 파일 업로드 실패", e);
+                throw new BaseExceptionHandler(ErrorCode.FAILED_TO_UPLOAD_S3_FILE);
+            } finally {
+                deleteTempFile();
+            }
+        }
+
+        @Override
+        public void abort() {
+            upload.abort();
+            deleteTempFile();
+        }
+
+        private void deleteTempFile() {
+            if (tempFile == null) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException e) {
+                log.warn("임시 파일 삭제 실패: {}", tempFile, e);
+            }
+        }
+    }
+}
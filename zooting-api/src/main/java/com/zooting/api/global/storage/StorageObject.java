@@ -0,0 +1,11 @@
+package com.zooting.api.global.storage;
+
+/**
+ * 저장된 파일 메타데이터. lastModified 는 epoch millis, 알 수 없으면 -1
+ */
+public record StorageObject(
+        long contentLength,
+        String eTag,
+        long lastModified
+) {
+}
@@ -0,0 +1,19 @@
+package com.zooting.api.global.storage;
+
+public interface StorageUpload {
+    void waitForCompletion() throws InterruptedException;
+
+    void abort();
+
+    static StorageUpload completed() {
+        return new StorageUpload() {
+            @Override
+            public void waitForCompletion() {
+            }
+
+            @Override
+            public void abort() {
+            }
+        };
+    }
+}
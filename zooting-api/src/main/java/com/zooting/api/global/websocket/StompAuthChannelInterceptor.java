@@ -0,0 +1,94 @@
+package com.zooting.api.global.websocket;
+
+import com.zooting.api.domain.disabled.application.SuspensionRegistry;
+import com.zooting.api.global.common.code.ErrorCode;
+import com.zooting.api.global.exception.BaseExceptionHandler;
+import com.zooting.api.global.jwt.service.JwtService;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * /ws 는 SockJS 핸드셰이크 때문에 HTTP 필터 인증에서 제외되어 있으므로 STOMP 프레임 단위로 인증한다.
+ * - CONNECT: Authorization 헤더의 Access Token 을 한 번 검증하고 인증 객체(이메일, 닉네임, 권한)를 세션에 저장한다.
+ *   활동정지 중인 유저는 연결을 거부한다.
+ *   이후 같은 세션의 메시지는 저장된 인증 객체를 @MessageMapping 의 Principal 로 받는다.
+ * - SUBSCRIBE: 개인 채널(/api/sub/{이메일})은 본인만, 그 외에는 공개 채널만 구독할 수 있다.
+ * - SEND: 인증된 세션만 보낼 수 있다.
+ */
+@Log4j2
+@Component
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+    private static final String SUBSCRIBE_PREFIX = "/api/sub/";
+    private final JwtService jwtService;
+    private final SuspensionRegistry suspensionRegistry;
+    private final Set<String> publicDestinations;
+
+    public StompAuthChannelInterceptor(JwtService jwtService,
+                                       SuspensionRegistry suspensionRegistry,
+                                       @Value("${websocket.public-destinations:/api/sub/matching-count}") Set<String> publicDestinations) {
+        this.jwtService = jwtService;
+        this.suspensionRegistry = suspensionRegistry;
+        this.publicDestinations = publicDestinations;
+    }
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (Objects.isNull(accessor) || Objects.isNull(accessor.getCommand())) {
+            return message;
+        }
+        StompCommand command = accessor.getCommand();
+        if (command == StompCommand.CONNECT) {
+            accessor.setUser(authenticate(accessor));
+        } else if (command == StompCommand.SUBSCRIBE) {
+            checkSubscription(accessor.getUser(), accessor.getDestination());
+        } else if (command == StompCommand.SEND && Objects.isNull(accessor.getUser())) {
+            throw new BaseExceptionHandler(ErrorCode.UNAUTHORIZED_USER_EXCEPTION);
+        }
+        return message;
+    }
+
+    private Principal authenticate(StompHeaderAccessor accessor) {
+        String token = jwtService.stripTokenPrefix(accessor.getFirstNativeHeader("Authorization"));
+        Authentication authentication;
+        try {
+            authentication = jwtService.authenticateAccessToken(token);
+        } catch (ExpiredJwtException e) {
+            throw new BaseExceptionHandler(ErrorCode.EXPIRED_ACCESS_TOKEN_EXCEPTION);
+        } catch (JwtException e) {
+            throw new BaseExceptionHandler(ErrorCode.INVALID_ACCESS_TOKEN_EXCEPTION);
+        } catch (IllegalArgumentException e) {
+            throw new BaseExceptionHandler(ErrorCode.ILLEGAL_TOKEN_EXCEPTION);
+        }
+        if (suspensionRegistry.isSuspended(authentication.getName())) {
+            throw new BaseExceptionHandler(ErrorCode.SUSPENDED_MEMBER_EXCEPTION);
+        }
+        return authentication;
+    }
+
+    private void checkSubscription(Principal user, String destination) {
+        if (Objects.isNull(user) || Objects.isNull(destination)) {
+            throw new BaseExceptionHandler(ErrorCode.UNAUTHORIZED_USER_EXCEPTION);
+        }
+        if (publicDestinations.contains(destination) || destination.equals(SUBSCRIBE_PREFIX + user.getName())) {
+            return;
+        }
+        log.debug("구독 권한이 없는 채널: user={}, destination={}", user.getName(), destination);
+        throw new BaseExceptionHandler(ErrorCode.FORBIDDEN_ERROR);
+    }
+}
@@ -0,0 +1,167 @@
+package com.zooting.api.global.websocket;
+
+import com.google.gson.Gson;
+import com.zooting.api.global.websocket.StompRelayEnvelope.StompRelayMessage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SimpleBroker 는 같은 서버에 연결된 세션에만 메시지를 전달하므로,
+ * 서버에서 /api/sub 로 보내는 메시지를 Redis pub/sub 으로 다른 서버에 중계한다.
+ * - brokerChannel 로 나가는 메시지를 가로채 로컬 전달은 그대로 두고 중계 큐에 쌓는다.
+ * - 큐에 쌓인 메시지는 flush-interval 마다 (또는 batch-size 가 차면) 한 번의 PUBLISH 로 묶어 보낸다.
+ * - 다른 서버에서 받은 메시지는 중계 헤더를 붙여 로컬 brokerChannel 로 다시 보낸다.
+ * websocket.broker.mode=redis 일 때만 활성화된다.
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(name = "websocket.broker.mode", havingValue = "redis")
+public class StompRedisRelay implements ChannelInterceptor, MessageListener {
+    public static final String RELAY_CHANNEL = "stomp-relay";
+    private static final String RELAYED_HEADER = "relayed";
+    private static final String SUBSCRIBE_PREFIX = "/api/sub/";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Queue<StompRelayMessage> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "stomp-redis-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListener;
+    private final MessageChannel brokerChannel;
+    private final Gson gson;
+    private final long flushInterval;
+    private final int batchSize;
+
+    public StompRedisRelay(RedisTemplate<String, Object> redisTemplate,
+                           RedisMessageListenerContainer redisMessageListener,
+                           @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel,
+                           Gson gson,
+                           @Value("${websocket.broker.relay.flush-interval:5}") long flushInterval,
+                           @Value("${websocket.broker.relay.batch-size:200}") int batchSize) {
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListener = redisMessageListener;
+        this.brokerChannel = brokerChannel;
+        this.gson = gson;
+        this.flushInterval = flushInterval;
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    public void start() {
+        redisMessageListener.addMessageListener(this, new ChannelTopic(RELAY_CHANNEL));
+        flushExecutor.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        log.info("STOMP Redis 중계 시작, 서버 ID: {}", nodeId);
+    }
+
+    @PreDestroy
+    public void stop() {
+        redisMessageListener.removeMessageListener(this, new ChannelTopic(RELAY_CHANNEL));
+        flushExecutor.shutdown();
+        flush();
+    }
+
+    /**
+     * brokerChannel 로 나가는 메시지 중 다른 서버에도 전달해야 하는 메시지를 큐에 쌓는다.
+     */
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String destination = accessor.getDestination();
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE
+                || Objects.isNull(destination) || !destination.startsWith(SUBSCRIBE_PREFIX)
+                || Objects.nonNull(accessor.getHeader(RELAYED_HEADER))
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+        MimeType contentType = accessor.getContentType();
+        pending.add(new StompRelayMessage(
+                destination,
+                Objects.nonNull(contentType) ? contentType.toString() : null,
+                Base64.getEncoder().encodeToString(payload)
+        ));
+        if (pendingCount.incrementAndGet() >= batchSize) {
+            flushExecutor.execute(this::flush);
+        }
+        return message;
+    }
+
+    /**
+     * 다른 서버가 발행한 메시지를 로컬 세션에 전달
+     */
+    @Override
+    public void onMessage(@NonNull org.springframework.data.redis.connection.Message message, byte[] pattern) {
+        StompRelayEnvelope envelope = gson.fromJson(
+                redisTemplate.getStringSerializer().deserialize(message.getBody()), StompRelayEnvelope.class);
+        if (Objects.isNull(envelope) || nodeId.equals(envelope.nodeId())) {
+            return;
+        }
+        for (StompRelayMessage relayMessage : envelope.messages()) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(relayMessage.destination());
+            if (Objects.nonNull(relayMessage.contentType())) {
+                accessor.setContentType(MimeType.valueOf(relayMessage.contentType()));
+            }
+            accessor.setHeader(RELAYED_HEADER, true);
+            brokerChannel.send(MessageBuilder.createMessage(
+                    Base64.getDecoder().decode(relayMessage.payload()), accessor.getMessageHeaders()));
+        }
+    }
+
+    private synchronized void flush() {
+        List<StompRelayMessage> batch = new ArrayList<>();
+        StompRelayMessage relayMessage;
+        while ((relayMessage = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            batch.add(relayMessage);
+            if (batch.size() >= batchSize) {
+                publish(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            publish(batch);
+        }
+    }
+
+    private void publish(List<StompRelayMessage> batch) {
+        try {
+            redisTemplate.convertAndSend(RELAY_CHANNEL, gson.toJson(new StompRelayEnvelope(nodeId, batch)));
+        } catch (RuntimeException e) {
+            log.error("STOMP Redis 중계 실패, 메시지 {}건 유실: {}", batch.size(), e.getMessage());
+        }
+    }
+}
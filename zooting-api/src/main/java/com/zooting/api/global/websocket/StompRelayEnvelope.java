@@ -0,0 +1,26 @@
+package com.zooting.api.global.websocket;
+
+import java.util.List;
+
+/**
+ * 노드 간 Redis 채널로 전달되는 STOMP 메시지 묶음
+ *
+ * @param nodeId   메시지를 발행한 서버 ID (자기 자신이 발행한 메시지는 무시)
+ * @param messages 발행 주기 동안 모인 메시지
+ */
+public record StompRelayEnvelope(
+        String nodeId,
+        List<StompRelayMessage> messages
+) {
+    /**
+     * @param destination 구독 경로 ex) /api/sub/{email}
+     * @param contentType 메시지 content-type
+     * @param payload     Base64 로 인코딩한 메시지 본문
+     */
+    public record StompRelayMessage(
+            String destination,
+            String contentType,
+            String payload
+    ) {
+    }
+}
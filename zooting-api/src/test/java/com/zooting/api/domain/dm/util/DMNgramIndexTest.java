@@ -0,0 +1,72 @@
+package com.zooting.api.domain.dm.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DMNgramIndexTest {
+
+    @Test
+    void searchKorean() {
+        DMNgramIndex index = new DMNgramIndex();
+        index.add(1L, "안녕하세요 반갑습니다");
+        index.add(2L, "오늘 저녁에 뭐 먹을까");
+        index.add(300L, "안녕 하세요!");
+
+        assertArrayEquals(new long[]{1L, 300L}, index.search("안녕하세요"));
+        assertArrayEquals(new long[]{2L}, index.search("저녁"));
+        assertArrayEquals(new long[]{2L}, index.search("뭐"));
+        assertArrayEquals(new long[0], index.search("점심"));
+        assertArrayEquals(new long[0], index.search("   "));
+    }
+
+    @Test
+    void ignoreAlreadyIndexedId() {
+        DMNgramIndex index = new DMNgramIndex();
+        index.add(10L, "Hello");
+        index.add(10L, "Hello");
+
+        assertArrayEquals(new long[]{10L}, index.search("hello"));
+        assertEquals(0L, index.getLastDmId());
+    }
+
+    @Test
+    void addOutOfOrderId() {
+        DMNgramIndex index = new DMNgramIndex();
+        index.add(10L, "world");
+        index.add(300L, "world");
+        index.add(5L, "world");
+        index.add(200L, "world cup");
+        index.advanceTo(300L);
+        index.advanceTo(100L);
+
+        assertArrayEquals(new long[]{5L, 10L, 200L, 300L}, index.search("world"));
+        assertArrayEquals(new long[]{200L}, index.search("cup"));
+        assertEquals(300L, index.getLastDmId());
+    }
+
+    @Test
+    void writeAndRead() throws IOException {
+        DMNgramIndex index = new DMNgramIndex();
+        index.add(1L, "동물 친구");
+        index.add(1_000_000_000L, "친구 추가");
+        index.advanceTo(1_000_000_000L);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+        assertFalse(index.isDirty());
+
+        DMNgramIndex loaded = DMNgramIndex.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(index.getLastDmId(), loaded.getLastDmId());
+        assertEquals(index.getGramCount(), loaded.getGramCount());
+        assertArrayEquals(new long[]{1L, 1_000_000_000L}, loaded.search("친구"));
+        loaded.add(1_000_000_001L, "친구");
+        assertArrayEquals(new long[]{1L, 1_000_000_000L, 1_000_000_001L}, loaded.search("친구"));
+    }
+}
@@ -0,0 +1,47 @@
+package com.zooting.api.domain.member.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NicknameBloomFilterTest {
+
+    @Test
+    void noFalseNegatives() {
+        NicknameBloomFilter filter = new NicknameBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("동물친구" + i);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("동물친구" + i));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("다른닉네임" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void matchesCaseAndAccentInsensitively() {
+        NicknameBloomFilter filter = new NicknameBloomFilter(100, 0.01);
+        filter.put("Café Tiger");
+
+        assertTrue(filter.mightContain("cafe tiger"));
+        assertTrue(filter.mightContain("CAFÉTIGER"));
+        assertFalse(filter.mightContain("cafe lion"));
+    }
+
+    @Test
+    void foldsCollationExpansions() {
+        NicknameBloomFilter filter = new NicknameBloomFilter(100, 0.01);
+        filter.put("Straße");
+        filter.put("Æsir");
+
+        assertTrue(filter.mightContain("strasse"));
+        assertTrue(filter.mightContain("STRASSE"));
+        assertTrue(filter.mightContain("aesir"));
+    }
+}
@@ -0,0 +1,74 @@
+package com.zooting.api.domain.member.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NicknameIndexTest {
+
+    @Test
+    void searchRanksPrefixFirst() {
+        NicknameIndex index = new NicknameIndex();
+        index.put("a@zooting.com", "귀여운토끼", "female");
+        index.put("b@zooting.com", "토끼왕", "male");
+        index.put("c@zooting.com", "고양이", "female");
+        index.put("d@zooting.com", "산토끼", "male");
+
+        NicknameIndex.SearchResult result = index.search("토끼", email -> true, 0, 10);
+
+        assertEquals(3, result.total());
+        assertEquals(List.of("토끼왕", "귀여운토끼", "산토끼"), nicknames(result.entries()));
+        assertEquals(List.of("산토끼"), nicknames(index.search("토끼", email -> true, 2, 10).entries()));
+        assertEquals(0, index.search("강아지", email -> true, 0, 10).total());
+    }
+
+    @Test
+    void filterAppliedBeforeLimit() {
+        NicknameIndex index = new NicknameIndex();
+        index.put("a@zooting.com", "Tiger1", "male");
+        index.put("b@zooting.com", "tiger2", "male");
+        index.put("c@zooting.com", "TIGER3", "female");
+
+        NicknameIndex.SearchResult result = index.search("tiger", email -> !email.startsWith("a"), 0, 2);
+
+        assertEquals(2, result.total());
+        assertEquals(List.of("tiger2", "TIGER3"), nicknames(result.entries()));
+        assertEquals(List.of("tiger2"), nicknames(index.autocomplete("TI", email -> !email.startsWith("a"), 1)));
+    }
+
+    @Test
+    void largeOffsetAndLimitAreBounded() {
+        NicknameIndex index = new NicknameIndex();
+        index.put("a@zooting.com", "tiger1", "male");
+        index.put("b@zooting.com", "tiger2", "female");
+
+        NicknameIndex.SearchResult pastEnd = index.search("tiger", email -> true, (long) Integer.MAX_VALUE * 20, 20);
+        assertEquals(2, pastEnd.total());
+        assertTrue(pastEnd.entries().isEmpty());
+        assertEquals(2, index.search("tiger", email -> true, 0, Integer.MAX_VALUE).entries().size());
+        assertEquals(0, index.search("tiger", email -> true, -1, 10).total());
+        assertEquals(2, index.autocomplete("ti", email -> true, Integer.MAX_VALUE).size());
+    }
+
+    @Test
+    void nicknameChangeReindexes() {
+        NicknameIndex index = new NicknameIndex();
+        index.put("a@zooting.com", "여우", "male");
+        index.put("a@zooting.com", "늑대", "male");
+        index.put("b@zooting.com", null, null);
+
+        assertEquals(0, index.search("여우", email -> true, 0, 10).total());
+        assertEquals(List.of("늑대"), nicknames(index.autocomplete("늑", email -> true, 10)));
+        assertEquals(1, index.size());
+
+        index.remove("a@zooting.com");
+        assertEquals(0, index.search("늑대", email -> true, 0, 10).total());
+        assertEquals(0, index.size());
+    }
+
+    private static List<String> nicknames(List<NicknameIndex.Entry> entries) {
+        return entries.stream().map(NicknameIndex.Entry::nickname).toList();
+    }
+}
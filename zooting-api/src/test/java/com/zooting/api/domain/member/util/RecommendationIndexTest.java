@@ -0,0 +1,56 @@
+package com.zooting.api.domain.member.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecommendationIndexTest {
+
+    @Test
+    void recommendRanksInterestThenIdealThenAge() {
+        RecommendationIndex index = new RecommendationIndex();
+        index.put("me@zooting.com", "나", "male", 1998, List.of("게임", "운동"), List.of("고양이"), "강아지");
+        index.put("a@zooting.com", "하나일치", "female", 1998, List.of("게임"), List.of(), "강아지");
+        index.put("b@zooting.com", "둘일치", "female", 2003, List.of("운동", "게임"), List.of(), "강아지");
+        index.put("c@zooting.com", "이상형", "female", 1996, List.of("게임"), List.of(), "고양이");
+        index.put("d@zooting.com", "범위밖", "female", 1980, List.of("게임", "운동"), List.of(), "고양이");
+
+        List<RecommendationIndex.Entry> entries = index.recommend("me@zooting.com", 5, Set.of(), 10);
+
+        assertEquals(List.of("둘일치", "이상형", "하나일치"), nicknames(entries));
+        assertEquals(List.of("둘일치", "이상형"), nicknames(index.recommend("me@zooting.com", 5, Set.of(), 2)));
+    }
+
+    @Test
+    void excludedAndRemovedMembersAreSkipped() {
+        RecommendationIndex index = new RecommendationIndex();
+        index.put("me@zooting.com", "나", "male", 2000, List.of("영화"), List.of(), "곰");
+        index.put("a@zooting.com", "차단", "female", 2000, List.of("영화"), List.of(), "곰");
+        index.put("b@zooting.com", "탈퇴", "female", 2000, List.of("영화"), List.of(), "곰");
+        index.put("c@zooting.com", "친구아님", "female", 2001, List.of(), List.of(), "곰");
+        index.remove("b@zooting.com");
+
+        assertEquals(List.of("친구아님"), nicknames(index.recommend("me@zooting.com", 2, Set.of("a@zooting.com"), 10)));
+        assertEquals(3, index.size());
+        assertTrue(index.recommend("b@zooting.com", 2, Set.of(), 10).isEmpty());
+    }
+
+    @Test
+    void putMovesMemberToNewBirthYear() {
+        RecommendationIndex index = new RecommendationIndex();
+        index.put("me@zooting.com", "나", "male", 2000, List.of(), List.of(), null);
+        index.put("a@zooting.com", "상대", "female", 1990, List.of(), List.of(), null);
+        assertTrue(index.recommend("me@zooting.com", 3, Set.of(), 10).isEmpty());
+
+        index.put("a@zooting.com", "상대", "female", 2002, List.of(), List.of(), null);
+
+        assertEquals(List.of("상대"), nicknames(index.recommend("me@zooting.com", 3, Set.of(), 10)));
+    }
+
+    private static List<String> nicknames(List<RecommendationIndex.Entry> entries) {
+        return entries.stream().map(RecommendationIndex.Entry::nickname).toList();
+    }
+}
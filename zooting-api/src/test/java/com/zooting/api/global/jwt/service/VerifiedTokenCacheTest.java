@@ -0,0 +1,42 @@
+package com.zooting.api.global.jwt.service;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    @Test
+    void returnCachedClaimsOnlyForSameToken() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        Claims claims = Jwts.claims().subject("test@zooting.com").expiration(new Date(2_000_000L)).build();
+        cache.put("header.payload.signature", claims);
+
+        assertSame(claims, cache.get("header.payload.signature", 1_000_000L));
+        // 서명이 같아도 내용이 다른 토큰은 캐시를 사용하지 않는다
+        assertNull(cache.get("header.other-payload.signature", 1_000_000L));
+        assertNull(cache.get("header.payload.other-signature", 1_000_000L));
+        assertNull(cache.get("not-a-token", 1_000_000L));
+    }
+
+    @Test
+    void evictExpiredAndEldest() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        Claims claims = Jwts.claims().subject("test@zooting.com").expiration(new Date(2_000_000L)).build();
+        cache.put("a.b.c1", claims);
+
+        assertNull(cache.get("a.b.c1", 2_000_000L));
+        assertEquals(0, cache.size());
+
+        cache.put("a.b.c1", claims);
+        cache.put("a.b.c2", claims);
+        cache.put("a.b.c3", claims);
+        assertEquals(2, cache.size());
+        assertNull(cache.get("a.b.c1", 1_000_000L));
+        assertSame(claims, cache.get("a.b.c3", 1_000_000L));
+    }
+}